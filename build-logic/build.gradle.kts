@@ -11,5 +11,6 @@ repositories {
 dependencies {
     implementation(libs.gradle.kotlin)
     implementation(libs.gradle.nexus.publish)
+    implementation(libs.gradle.jmh)
     compileOnly(files(libs::class.java.protectionDomain.codeSource.location))
 }
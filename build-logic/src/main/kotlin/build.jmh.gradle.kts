@@ -0,0 +1,27 @@
+plugins {
+    id("java-library")
+    id("me.champeau.jmh")
+}
+
+val libs = extensions.getByType(org.gradle.accessors.dm.LibrariesForLibs::class)
+
+// benchmarks are executed on demand only
+// ./gradlew jmh
+// ...or a subset of benchmarks (regexp)
+// ./gradlew jmh -Pjmh.includes=MessageLookup
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    (project.findProperty("jmh.includes") as String?)
+        ?.let { includes.set(listOf(it)) }
+    // report allocation rate next to the timings
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(project.layout.buildDirectory.file("reports/jmh/results.json"))
+    humanOutputFile.set(project.layout.buildDirectory.file("reports/jmh/results.txt"))
+    failOnError.set(true)
+}
+
+// code generated by jmh does not pass strict lint checks
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.compilerArgs.removeAll(listOf("-Werror"))
+}
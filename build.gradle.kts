@@ -4,6 +4,7 @@ plugins {
     id("build.kotlin")
     id("build.test")
     id("build.coverage")
+    id("build.jmh")
     id("build.publishing")
 }
 
@@ -1,6 +1,7 @@
 package com.coditory.quark.i18n
 
 import com.coditory.quark.i18n.base.UsesInMemClassLoader
+import com.coditory.quark.i18n.loader.I18nClassPathCache
 import com.coditory.quark.i18n.loader.I18nClassPathLoader
 import com.coditory.quark.i18n.loader.I18nLoader
 import spock.lang.Specification
@@ -132,4 +133,48 @@ class LoadI18nFromClasspathSpec extends Specification implements UsesInMemClassL
             messagesEn.getMessage("user.title") == "User"
             messagesEn.getMessage("homepage.title") == "Homepage"
     }
+
+    def "should reuse class path scan until cache is invalidated"() {
+        given:
+            writeInMemClassPathFile("i18n/homepage.yml", "homepage.title.en: Homepage")
+            I18nMessagePack.builder()
+                    .scanClassPath(inMemClassLoader, "i18n/*")
+                    .build()
+
+        when:
+            writeInMemClassPathFile("i18n/user.yml", "user.title.en: User")
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanClassPath(inMemClassLoader, "i18n/*")
+                    .usePathOnMissingMessage()
+                    .build()
+
+        then:
+            i18nMessagePack.getMessage(EN_US, "user.title") == "user.title"
+
+        when:
+            I18nClassPathCache.invalidate(inMemClassLoader)
+            i18nMessagePack = I18nMessagePack.builder()
+                    .scanClassPath(inMemClassLoader, "i18n/*")
+                    .build()
+
+        then:
+            i18nMessagePack.getMessage(EN_US, "user.title") == "User"
+            i18nMessagePack.getMessage(EN_US, "homepage.title") == "Homepage"
+    }
+
+    def "should scan class path again on reload"() {
+        given:
+            writeInMemClassPathFile("i18n/homepage.yml", "homepage.title.en: Homepage")
+            Reloadable18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanClassPath(inMemClassLoader, "i18n/*")
+                    .buildReloadable()
+
+        when:
+            writeInMemClassPathFile("i18n/user.yml", "user.title.en: User")
+            i18nMessagePack.reload()
+
+        then:
+            i18nMessagePack.getMessage(EN_US, "user.title") == "User"
+            i18nMessagePack.getMessage(EN_US, "homepage.title") == "Homepage"
+    }
 }
@@ -2,9 +2,17 @@ package com.coditory.quark.i18n
 
 import com.coditory.quark.i18n.base.UsesInMemFs
 import com.coditory.quark.i18n.loader.I18nFileSystemLoader
+import com.coditory.quark.i18n.loader.I18nLoadException
 import com.coditory.quark.i18n.loader.I18nLoader
 import spock.lang.Specification
 
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+import static com.coditory.quark.i18n.Locales.DE_DE
+import static com.coditory.quark.i18n.Locales.EN
 import static com.coditory.quark.i18n.Locales.EN_US
 import static com.coditory.quark.i18n.Locales.PL_PL
 
@@ -132,4 +140,174 @@ class LoadI18nFromFileSystemSpec extends Specification implements UsesInMemFs {
             messagesEn.getMessage("user.title") == "User"
             messagesEn.getMessage("homepage.title") == "Homepage"
     }
+
+    def "should load i18n files in parallel keeping the override order"() {
+        given:
+            (0..<50).each {
+                writeInMemFsFile("i18n/base/file-${it}.yml", "msg${it}.en: Base ${it}")
+            }
+            writeInMemFsFile("i18n/override/file.yml", "msg7.en: Override 7")
+        and:
+            ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/base/*", "i18n/override/*")
+                    .addMessage(EN, "msg8", "Manual 8")
+                    .loadInParallel(executor)
+                    .build()
+
+        then:
+            I18nMessages messages = i18nMessagePack.localize(EN)
+            messages.getMessage("msg0") == "Base 0"
+            messages.getMessage("msg7") == "Override 7"
+            messages.getMessage("msg8") == "Manual 8"
+            messages.getMessage("msg49") == "Base 49"
+
+        cleanup:
+            executor?.shutdown()
+    }
+
+    def "should propagate parsing error when loading i18n files in parallel"() {
+        given:
+            writeInMemFsFile("i18n/valid.yml", "msg.en: Valid")
+            writeInMemFsFile("i18n/invalid.yml", "msg.en: [")
+
+        when:
+            I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/*")
+                    .loadInParallel()
+                    .build()
+
+        then:
+            I18nLoadException e = thrown(I18nLoadException)
+            e.message.startsWith("Could not parse file: ")
+            e.message.endsWith("invalid.yml")
+    }
+
+    def "should load i18n files using configured charset"() {
+        given:
+            Files.createDirectories(inMemPath("i18n"))
+            Files.writeString(inMemPath("i18n/messages.properties"), "title.de=Über uns", StandardCharsets.ISO_8859_1)
+
+        when:
+            I18nLoader loader = I18nLoader.fileSystemLoader(inMemFs)
+                    .scanPathPattern("i18n/*")
+                    .charset(StandardCharsets.ISO_8859_1)
+                    .build()
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .addLoader(loader)
+                    .build()
+
+        then:
+            i18nMessagePack.localize(DE_DE).getMessage("title") == "Über uns"
+    }
+
+    def "should parse i18n files of a locale on the first query for the locale"() {
+        given:
+            writeInMemFsFile("i18n/messages-en.yml", """
+            company: ACME
+            title: Homepage
+            """)
+            writeInMemFsFile("i18n/messages-pl.yml", "title: Strona \$company")
+            writeInMemFsFile("i18n/messages-de.yml", "title: [")
+
+        when:
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/messages-{locale}.yml")
+                    .setDefaultLocale(EN)
+                    .loadLocalesLazily()
+                    .build()
+
+        then:
+            i18nMessagePack.getMessage(PL_PL, "title") == "Strona ACME"
+            i18nMessagePack.localize(EN_US).getMessage("title") == "Homepage"
+
+        when:
+            i18nMessagePack.getMessage(DE_DE, "title")
+
+        then:
+            I18nLoadException e = thrown(I18nLoadException)
+            e.message.startsWith("Could not parse file: ")
+            e.message.endsWith("messages-de.yml")
+    }
+
+    def "should parse i18n files of warm up locales when message pack is built"() {
+        given:
+            writeInMemFsFile("i18n/messages-en.yml", "title: Homepage")
+            writeInMemFsFile("i18n/messages-de.yml", "title: [")
+
+        when:
+            I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/messages-{locale}.yml")
+                    .loadLocalesLazily(DE_DE)
+                    .build()
+
+        then:
+            I18nLoadException e = thrown(I18nLoadException)
+            e.message.endsWith("messages-de.yml")
+    }
+
+    def "should keep the override order of i18n files loaded lazily"() {
+        given:
+            writeInMemFsFile("i18n/a/messages-en.yml", "title: Base")
+            writeInMemFsFile("i18n/b/messages.yml", "title.en: Override")
+
+        when:
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/a/messages-{locale}.yml")
+                    .scanFileSystem(inMemFs, "i18n/b/*")
+                    .loadLocalesLazily()
+                    .build()
+
+        then:
+            i18nMessagePack.getMessage(EN_US, "title") == "Override"
+    }
+
+    def "should keep resolved messages and stats when another locale is loaded lazily"() {
+        given:
+            writeInMemFsFile("i18n/messages-en.yml", "title: Homepage")
+            writeInMemFsFile("i18n/messages-pl.yml", "title: Strona domowa")
+            I18nMessagePack i18nMessagePack = I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/messages-{locale}.yml")
+                    .setDefaultLocale(EN)
+                    .loadLocalesLazily()
+                    .build()
+        and:
+            I18nMessage title = i18nMessagePack.getTemplate(EN_US, I18nPath.of("title"))
+            i18nMessagePack.getMessageOrNull(EN_US, "missing")
+
+        when:
+            String plTitle = i18nMessagePack.getMessage(PL_PL, "title")
+
+        then:
+            plTitle == "Strona domowa"
+            i18nMessagePack.getTemplate(EN_US, I18nPath.of("title")).is(title)
+            i18nMessagePack.getMissingMessageStats().distinctKeys() == 1
+    }
+
+    def "should not load locales lazily with missing message detection"() {
+        when:
+            I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/messages-{locale}.yml")
+                    .detectMissingMessages(I18nMissingMessagesDetector.builder().logMissingMessages().build())
+                    .loadLocalesLazily()
+                    .build()
+
+        then:
+            IllegalStateException e = thrown(IllegalStateException)
+            e.message == "Lazy locale loading cannot be used with missing message detection"
+    }
+
+    def "should not load locales lazily in reloadable message pack"() {
+        when:
+            I18nMessagePack.builder()
+                    .scanFileSystem(inMemFs, "i18n/messages-{locale}.yml")
+                    .loadLocalesLazily()
+                    .buildReloadable()
+
+        then:
+            IllegalStateException e = thrown(IllegalStateException)
+            e.message == "Lazy locale loading cannot be used with reloadable message pack"
+    }
 }
@@ -0,0 +1,126 @@
+package com.coditory.quark.i18n.loader
+
+import com.coditory.quark.i18n.base.UsesInMemFs
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.FileSystem
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.CREATE
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.DELETE
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.MODIFY
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangedEvent
+
+class FilePollerSpec extends Specification implements UsesInMemFs {
+    InMemFileChangeListener listener = new InMemFileChangeListener()
+    Thread pollingThread
+
+    @TempDir
+    Path tempDir
+
+    void cleanup() {
+        pollingThread?.interrupt()
+        pollingThread?.join()
+    }
+
+    def "should send event on created file"() {
+        given:
+            createInMemDir("a")
+            poll("a/**")
+        when:
+            writeInMemFsFile("a/b/c/foo.txt", "foo")
+            writeInMemFsFile("a/bar.txt", "bar")
+        then:
+            listener.assertEvents(
+                    event(CREATE, "a/b/c/foo.txt"),
+                    event(CREATE, "a/bar.txt")
+            )
+    }
+
+    def "should send event on deleted files when parent directory is removed"() {
+        given:
+            writeInMemFsFile("a/b/c/foo.txt", "foo")
+            writeInMemFsFile("a/b/bar.txt", "bar")
+            writeInMemFsFile("a/baz.txt", "baz")
+            poll("a/**")
+        when:
+            deleteInMemDirRecursively("a/b")
+        then:
+            listener.assertEvents(
+                    event(DELETE, "a/b/c/foo.txt"),
+                    event(DELETE, "a/b/bar.txt")
+            )
+    }
+
+    def "should send event on file modification"() {
+        given:
+            writeInMemFsFile("a/b/c/foo.txt", "foo")
+            poll("a/**")
+        when:
+            writeInMemFsFile("a/b/c/foo.txt", "foo2")
+        then:
+            listener.assertEvents(
+                    event(MODIFY, "a/b/c/foo.txt")
+            )
+    }
+
+    def "should skip files that do not match the pattern"() {
+        given:
+            createInMemDir("a")
+            poll("a/*.yml")
+        when:
+            writeInMemFsFile("a/foo.txt", "foo")
+            writeInMemFsFile("a/bar.yml", "bar")
+        then:
+            listener.assertEvents(
+                    event(CREATE, "a/bar.yml")
+            )
+    }
+
+    def "should not send event for file rewritten with the same content when content is compared"() {
+        given:
+            writeInMemFsFile("a/foo.txt", "foo")
+            poll("a/**", true)
+        when:
+            Thread.sleep(50)
+            writeInMemFsFile("a/foo.txt", "foo")
+            Thread.sleep(100)
+        then:
+            listener.events.isEmpty()
+        when:
+            writeInMemFsFile("a/foo.txt", "foo2")
+        then:
+            listener.assertEvents(
+                    event(MODIFY, "a/foo.txt")
+            )
+    }
+
+    def "should detect changes on local file system"() {
+        given:
+            Path file = tempDir.resolve("i18n/messages.yml")
+            Files.createDirectories(file.parent)
+            Files.writeString(file, "a: 1")
+            poll(FileSystems.getDefault(), tempDir.toString() + "/i18n/*.yml")
+        when:
+            Files.writeString(file, "a: 22")
+        then:
+            listener.assertEvents(new FileChangedEvent(MODIFY, file))
+    }
+
+    FileChangedEvent event(FileWatcher.FileChangeType changeType, String path) {
+        return new FileChangedEvent(changeType, inMemAbsolutePath(path))
+    }
+
+    void poll(String pattern, boolean compareContent = false) {
+        poll(inMemFs, pattern, compareContent)
+    }
+
+    void poll(FileSystem fileSystem, String pattern, boolean compareContent = false) {
+        pollingThread = FilePoller.startPollingThread(
+                fileSystem, [I18nPathPattern.of(pattern)], listener, Duration.ofMillis(10), compareContent)
+    }
+}
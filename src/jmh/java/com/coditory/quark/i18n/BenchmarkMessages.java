@@ -0,0 +1,45 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nMessageBundle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class BenchmarkMessages {
+    private BenchmarkMessages() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    static Map<I18nKey, String> messages(Locale locale, int count) {
+        Map<I18nKey, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            result.put(I18nKey.of(locale, path(i)), template(i));
+        }
+        return result;
+    }
+
+    static List<I18nMessageBundle> bundles(List<Locale> locales, int count) {
+        List<I18nMessageBundle> result = new ArrayList<>();
+        for (Locale locale : locales) {
+            result.add(new I18nMessageBundle(messages(locale, count)));
+        }
+        return result;
+    }
+
+    static String path(int index) {
+        return "section" + (index % 100) + ".group" + (index % 10) + ".message" + index;
+    }
+
+    // mix of static and parameterized messages
+    static String template(int index) {
+        return switch (index % 4) {
+            case 0 -> "Static message " + index;
+            case 1 -> "Hello {0}, message " + index;
+            case 2 -> "Hello {name}, you have {count, number} messages";
+            default -> "{0, plural, one {# item} other {# items}} in message " + index;
+        };
+    }
+}
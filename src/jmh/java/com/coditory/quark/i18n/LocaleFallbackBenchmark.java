@@ -0,0 +1,59 @@
+package com.coditory.quark.i18n;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.coditory.quark.i18n.Locales.EN;
+import static com.coditory.quark.i18n.Locales.EN_US;
+import static com.coditory.quark.i18n.Locales.PL_PL;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LocaleFallbackBenchmark {
+    // exact: en-US, language: en-US -> en, default: en-US -> en -> pl-PL
+    @Param({"exact", "language", "default"})
+    private String fallback;
+    private I18nMessagePack messagePack;
+    private I18nKeyGenerator keyGenerator;
+    private I18nKey key;
+
+    @Setup
+    public void setup() {
+        messagePack = I18nMessagePack.builder()
+                .setDefaultLocale(PL_PL)
+                .addMessages(BenchmarkMessages.messages(EN_US, 1_000))
+                .addMessage(EN_US, "exact", "Hello {0}")
+                .addMessage(EN, "language", "Hello {0}")
+                .addMessage(PL_PL, "default", "Witaj {0}")
+                .build();
+        LocaleResolver localeResolver = LocaleResolver.of(PL_PL, BenchmarkMessages.bundles(List.of(EN_US, EN, PL_PL), 1));
+        keyGenerator = new I18nKeyGenerator(PL_PL, List.of(), localeResolver);
+        key = I18nKey.of(EN_US, fallback);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return messagePack.getMessage(key, "John");
+    }
+
+    @Benchmark
+    public List<I18nKey> generateKeys() {
+        return keyGenerator.keys(key);
+    }
+}
@@ -0,0 +1,72 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nMessageBundle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.coditory.quark.i18n.Locales.DE;
+import static com.coditory.quark.i18n.Locales.EN;
+import static com.coditory.quark.i18n.Locales.EN_US;
+import static com.coditory.quark.i18n.Locales.PL_PL;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LocaleResolverBenchmark {
+    @State(Scope.Benchmark)
+    public static class Resolver {
+        // number of distinct user supplied locales, cache capacity is 10 * available locales + 1 = 41
+        @Param({"8", "40", "400"})
+        private int distinctLocales;
+        private LocaleResolver localeResolver;
+        private Locale[] queriedLocales;
+
+        @Setup
+        public void setup() {
+            List<I18nMessageBundle> bundles = BenchmarkMessages.bundles(List.of(EN_US, EN, DE, PL_PL), 1);
+            localeResolver = LocaleResolver.of(PL_PL, bundles);
+            queriedLocales = Arrays.stream(Locale.getAvailableLocales())
+                    .filter(locale -> !locale.toLanguageTag().equals("und"))
+                    .limit(distinctLocales)
+                    .toArray(Locale[]::new);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index = (int) Thread.currentThread().threadId();
+
+        Locale next(Locale[] locales) {
+            index = Math.floorMod(index + 1, locales.length);
+            return locales[index];
+        }
+    }
+
+    @Benchmark
+    public Locale resolveQueryLocale(Resolver resolver, Cursor cursor) {
+        return resolver.localeResolver.resolveQueryLocale(cursor.next(resolver.queriedLocales));
+    }
+
+    @Benchmark
+    public List<Locale> getLocaleHierarchy(Resolver resolver, Cursor cursor) {
+        return resolver.localeResolver.getLocaleHierarchy(cursor.next(resolver.queriedLocales));
+    }
+}
@@ -0,0 +1,112 @@
+package com.coditory.quark.i18n;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.coditory.quark.i18n.Locales.EN;
+import static com.coditory.quark.i18n.Locales.EN_US;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageLookupBenchmark {
+    private final Map<String, Object> namedArgs = Map.of("name", "John", "count", 42);
+    private final Instant instant = Instant.parse("2007-12-03T10:15:30.00Z");
+    private final I18nPath indexedPath = I18nPath.of("indexed");
+    private I18nMessagePack messagePack;
+    private I18nMessagePack prefixedMessagePack;
+    private I18nMessagePack uncachedFormatMessagePack;
+    private I18nMessages messages;
+
+    @Setup
+    public void setup() {
+        messagePack = I18nMessagePack.builder()
+                .setDefaultLocale(EN)
+                .addMessages(BenchmarkMessages.messages(EN_US, 1_000))
+                .addMessage(EN_US, "static", "Hello World")
+                .addMessage(EN_US, "indexed", "Hello {0}, you have {1, number} messages")
+                .addMessage(EN_US, "named", "Hello {name}, you have {count, number} messages")
+                .addMessage(EN_US, "plural", "You have {0, plural, =0 {no messages} one {# message} other {# messages}}")
+                .addMessage(EN_US, "date", "Created at {0, date, short}")
+                .addMessage(EN_US, "section.prefixed", "Hello {0}")
+                .cacheFormatTemplates(256)
+                .build();
+        prefixedMessagePack = messagePack.prefixQueries("section");
+        uncachedFormatMessagePack = I18nMessagePack.builder()
+                .setDefaultLocale(EN)
+                .build();
+        messages = messagePack.localize(EN_US);
+    }
+
+    @Benchmark
+    public String staticMessage() {
+        return messages.getMessage("static");
+    }
+
+    @Benchmark
+    public String indexedArgs() {
+        return messages.getMessage("indexed", "John", 42);
+    }
+
+    // the same message as indexedArgs queried with a pre-built path instead of a string
+    @Benchmark
+    public String indexedArgsWithPath() {
+        return messages.getMessage(indexedPath, "John", 42);
+    }
+
+    @Benchmark
+    public String namedArgs() {
+        return messages.getMessage("named", namedArgs);
+    }
+
+    @Benchmark
+    public String pluralMessage() {
+        return messages.getMessage("plural", 42);
+    }
+
+    @Benchmark
+    public String pluralMessageWithPrimitiveArg() {
+        return messages.getMessageForCount("plural", 42L);
+    }
+
+    @Benchmark
+    public String instantArg() {
+        return messages.getMessage("date", instant);
+    }
+
+    @Benchmark
+    public String prefixedQuery() {
+        return prefixedMessagePack.getMessage(EN_US, "prefixed", "John");
+    }
+
+    // views created per query, as a web layer does per request
+    @Benchmark
+    public String prefixedLocalizedView() {
+        return messagePack.prefixQueries("section").localize(EN_US).getMessage("prefixed", "John");
+    }
+
+    @Benchmark
+    public String adHocFormat() {
+        return messagePack.format(EN_US, "Hello {0}, you have {1, number} messages", "John", 42);
+    }
+
+    @Benchmark
+    public String adHocFormatWithoutTemplateCache() {
+        return uncachedFormatMessagePack.format(EN_US, "Hello {0}, you have {1, number} messages", "John", 42);
+    }
+}
@@ -0,0 +1,89 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nMessageBundle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.coditory.quark.i18n.Locales.EN;
+import static com.coditory.quark.i18n.Locales.EN_US;
+import static com.coditory.quark.i18n.Locales.PL_PL;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessagePackBuildBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int keys;
+    private List<I18nMessageBundle> bundles;
+    private Reloadable18nMessagePack reloadableMessagePack;
+    private Path precompiled;
+
+    @Setup
+    public void setup() throws IOException {
+        bundles = BenchmarkMessages.bundles(List.of(EN_US, EN, PL_PL), keys);
+        reloadableMessagePack = I18nMessagePack.builder()
+                .setDefaultLocale(EN)
+                .addLoader(() -> bundles)
+                .buildReloadable();
+        precompiled = Files.createTempFile("messages", ".bin");
+        I18nMessagePackBuilder builder = I18nMessagePack.builder()
+                .setDefaultLocale(EN);
+        bundles.forEach(builder::addMessages);
+        I18nMessagePackCompiler.compile(builder, precompiled);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(precompiled);
+    }
+
+    @Benchmark
+    public I18nMessagePack build() {
+        I18nMessagePackBuilder builder = I18nMessagePack.builder()
+                .setDefaultLocale(EN);
+        bundles.forEach(builder::addMessages);
+        return builder.build();
+    }
+
+    @Benchmark
+    public I18nMessagePack buildInParallel() {
+        I18nMessagePackBuilder builder = I18nMessagePack.builder()
+                .setDefaultLocale(EN)
+                .loadInParallel();
+        bundles.forEach(builder::addMessages);
+        return builder.build();
+    }
+
+    @Benchmark
+    public I18nMessagePack buildFromPrecompiled() {
+        return I18nMessagePack.builder()
+                .setDefaultLocale(EN)
+                .addPrecompiledMessages(precompiled)
+                .build();
+    }
+
+    @Benchmark
+    public I18nMessagePack reload() {
+        reloadableMessagePack.reload();
+        return reloadableMessagePack;
+    }
+}
@@ -0,0 +1,67 @@
+package com.coditory.quark.i18n;
+
+import com.ibm.icu.text.MessageFormat;
+import com.ibm.icu.util.CurrencyAmount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.concurrent.TimeUnit;
+
+import static com.coditory.quark.i18n.Locales.EN_US;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyFormatBenchmark {
+    private final Money money = new Money(new BigDecimal("1234.5"), Currencies.USD);
+    private final MessageFormat icuMessageFormat = new MessageFormat("Price: {0, number, currency}", EN_US);
+    private I18nMessages messages;
+
+    @Setup
+    public void setup() {
+        messages = I18nMessagePack.builder()
+                .addMessage(EN_US, "price", "Price: {0}")
+                .addMessage(EN_US, "currency", "Price: {0, number, currency}")
+                .buildLocalized(EN_US);
+    }
+
+    // formatter created on every call, as Currencies.formatByCurrency used to do
+    @Benchmark
+    public String newFormatPerCall() {
+        return NumberFormat.getCurrencyInstance(EN_US).format(money.amount());
+    }
+
+    @Benchmark
+    public String formatByCurrency() {
+        return Currencies.formatByCurrency(money.amount(), money.currency());
+    }
+
+    @Benchmark
+    public String icuMessageFormat() {
+        com.ibm.icu.util.Currency currency = com.ibm.icu.util.Currency.fromJavaCurrency(money.currency());
+        return icuMessageFormat.format(new Object[]{new CurrencyAmount(money.amount(), currency)});
+    }
+
+    @Benchmark
+    public String moneyArg() {
+        return messages.getMessage("price", money);
+    }
+
+    @Benchmark
+    public String moneyArgWithCurrencyStyle() {
+        return messages.getMessage("currency", money);
+    }
+}
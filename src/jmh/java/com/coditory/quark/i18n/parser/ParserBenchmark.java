@@ -0,0 +1,98 @@
+package com.coditory.quark.i18n.parser;
+
+import com.coditory.quark.i18n.I18nKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParserBenchmark {
+    private static final Locale LOCALE = Locale.forLanguageTag("en-US");
+
+    @Param({"10000", "100000", "500000"})
+    private int keys;
+    private String yaml;
+    private String json;
+    private String properties;
+
+    @Setup
+    public void setup() {
+        yaml = yaml(keys);
+        json = json(keys);
+        properties = properties(keys);
+    }
+
+    @Benchmark
+    public Map<I18nKey, String> parseYaml() {
+        return I18nParsers.parseYaml(yaml, LOCALE);
+    }
+
+    @Benchmark
+    public Map<I18nKey, String> parseJson() {
+        return I18nParsers.parseJson(json, LOCALE);
+    }
+
+    @Benchmark
+    public Map<I18nKey, String> parseProperties() {
+        return I18nParsers.parseProperties(properties, LOCALE);
+    }
+
+    // nested structure: section -> group -> message
+    private static String yaml(int keys) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < keys; ++i) {
+            if (i % 1000 == 0) {
+                builder.append("section").append(i / 1000).append(":\n");
+            }
+            if (i % 100 == 0) {
+                builder.append("  group").append(i / 100).append(":\n");
+            }
+            builder.append("    message").append(i).append(": \"Hello {0}, message ").append(i).append("\"\n");
+        }
+        return builder.toString();
+    }
+
+    private static String json(int keys) {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < keys; ++i) {
+            if (i % 1000 == 0) {
+                builder.append(i == 0 ? "" : "}},").append("\"section").append(i / 1000).append("\":{");
+            }
+            if (i % 100 == 0) {
+                builder.append(i % 1000 == 0 ? "" : "},").append("\"group").append(i / 100).append("\":{");
+            } else {
+                builder.append(',');
+            }
+            builder.append("\"message").append(i).append("\":\"Hello {0}, message ").append(i).append('"');
+        }
+        return builder.append(keys > 0 ? "}}}" : "}").toString();
+    }
+
+    private static String properties(int keys) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < keys; ++i) {
+            builder.append("section").append(i / 1000)
+                    .append(".group").append(i / 100)
+                    .append(".message").append(i)
+                    .append("=Hello {0}, message ").append(i).append('\n');
+        }
+        return builder.toString();
+    }
+}
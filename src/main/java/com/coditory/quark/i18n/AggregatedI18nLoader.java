@@ -1,10 +1,13 @@
 package com.coditory.quark.i18n;
 
+import com.coditory.quark.i18n.loader.I18nLazyMessageBundle;
 import com.coditory.quark.i18n.loader.I18nLoader;
+import com.coditory.quark.i18n.loader.I18nLocaleIndexedLoader;
 import com.coditory.quark.i18n.loader.I18nMessageBundle;
 import com.coditory.quark.i18n.loader.WatchableI18nLoader;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -12,10 +15,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import static com.coditory.quark.i18n.Preconditions.expect;
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
-final class AggregatedI18nLoader implements WatchableI18nLoader {
+final class AggregatedI18nLoader implements WatchableI18nLoader, I18nLocaleIndexedLoader {
     private final List<I18nLoader> loaders = new ArrayList<>();
     private final Map<I18nKey, String> currentEntries = new LinkedHashMap<>();
     private final ConcurrentHashMap<I18nLoader, List<I18nMessageBundle>> cachedResults = new ConcurrentHashMap<>();
@@ -54,13 +59,20 @@ final class AggregatedI18nLoader implements WatchableI18nLoader {
 
     @Override
     public synchronized void startWatching() {
+        startWatching(Duration.ZERO);
+    }
+
+    @Override
+    public synchronized void startWatching(@NotNull Duration debounce) {
+        expectNonNull(debounce, "debounce");
+        expect(!debounce.isNegative(), "Expected non-negative debounce, got: " + debounce);
         if (watching) {
             throw new IllegalStateException("Loader is already watching for changes");
         }
         watching = true;
         for (I18nLoader loader : loaders) {
             if (loader instanceof WatchableI18nLoader watchableLoader) {
-                watchableLoader.startWatching();
+                watchableLoader.startWatching(debounce);
                 watchableLoader.addChangeListener(bundles -> onBundlesChange(loader, bundles));
             }
         }
@@ -96,15 +108,46 @@ final class AggregatedI18nLoader implements WatchableI18nLoader {
     public synchronized List<I18nMessageBundle> load() {
         appendCurrentEntries();
         return loaders.stream()
-                .map(this::load)
+                .map(loader -> cache(loader, loader.load()))
                 .reduce(new ArrayList<>(), (result, e) -> {
                     result.addAll(e);
                     return result;
                 });
     }
 
-    private List<I18nMessageBundle> load(I18nLoader loader) {
-        List<I18nMessageBundle> bundles = loader.load();
+    @Override
+    @NotNull
+    public synchronized List<I18nMessageBundle> load(@NotNull Executor executor) {
+        expectNonNull(executor, "executor");
+        appendCurrentEntries();
+        // loaders are executed one by one, so bundles keep the order of loaders
+        return loaders.stream()
+                .map(loader -> cache(loader, loader.load(executor)))
+                .reduce(new ArrayList<>(), (result, e) -> {
+                    result.addAll(e);
+                    return result;
+                });
+    }
+
+    // loaders that do not index bundles by locale are loaded right away
+    @Override
+    @NotNull
+    public synchronized List<I18nLazyMessageBundle> loadLazily() {
+        appendCurrentEntries();
+        List<I18nLazyMessageBundle> result = new ArrayList<>();
+        for (I18nLoader loader : loaders) {
+            if (loader instanceof I18nLocaleIndexedLoader indexedLoader) {
+                result.addAll(indexedLoader.loadLazily());
+            } else {
+                cache(loader, loader.load()).stream()
+                        .map(I18nLazyMessageBundle::loaded)
+                        .forEach(result::add);
+            }
+        }
+        return result;
+    }
+
+    private List<I18nMessageBundle> cache(I18nLoader loader, List<I18nMessageBundle> bundles) {
         cachedResults.put(loader, bundles);
         return bundles;
     }
@@ -0,0 +1,18 @@
+package com.coditory.quark.i18n;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+final class Appendables {
+    private Appendables() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    static void append(Appendable out, CharSequence value) {
+        try {
+            out.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append message", e);
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.coditory.quark.i18n;
 
+import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
-import static java.util.stream.Collectors.toMap;
 
 final class ArgumentResolver {
+    private static final int MAX_TRANSFORMATIONS = 10;
     private final Map<Class<?>, I18nArgTransformer<?>> transformers;
+    // transformer resolved once per runtime class, including supertypes and interfaces.
+    // Transformations are kept by the resolver and not in a ClassValue,
+    // so they do not keep the resolver alive through long-lived classes like String.
+    private final ConcurrentHashMap<Class<?>, Transformation> transformations = new ConcurrentHashMap<>();
+    private final Transformation noTransformation = new Transformation(null);
 
     static ArgumentResolver of(List<I18nArgTransformer<?>> transformers) {
         expectNonNull(transformers, "transformers");
-        Map<Class<?>, I18nArgTransformer<?>> map = transformers.stream().collect(toMap(I18nArgTransformer::getArgType, it -> it));
+        // transformers registered later override the earlier ones
+        Map<Class<?>, I18nArgTransformer<?>> map = new LinkedHashMap<>();
+        transformers.forEach(it -> map.put(it.getArgType(), it));
         return new ArgumentResolver(map);
     }
 
@@ -22,13 +35,20 @@ final class ArgumentResolver {
         this.transformers = Map.copyOf(transformers);
     }
 
-    Object[] resolveArguments(Object[] args, Set<Integer> usedIndexes) {
+    boolean hasTransformer(Class<?> type) {
+        return !transformers.isEmpty() && transformation(type) != null;
+    }
+
+    Object[] resolveArguments(Object[] args, BitSet usedIndexes) {
         expectNonNull(args, "args");
         expectNonNull(usedIndexes, "usedIndexes");
+        if (transformers.isEmpty()) {
+            return args;
+        }
         boolean transformable = false;
         for (int i = 0; i < args.length; ++i) {
             Object arg = args[i];
-            if (arg != null && usedIndexes.contains(i) && transformers.containsKey(arg.getClass())) {
+            if (arg != null && usedIndexes.get(i) && transformation(arg.getClass()) != null) {
                 transformable = true;
                 break;
             }
@@ -39,7 +59,7 @@ final class ArgumentResolver {
         Object[] result = new Object[args.length];
         for (int i = 0; i < args.length; ++i) {
             Object arg = args[i];
-            if (arg != null && usedIndexes.contains(i)) {
+            if (arg != null && usedIndexes.get(i)) {
                 result[i] = transformArgument(args[i], i);
             }
         }
@@ -62,26 +82,98 @@ final class ArgumentResolver {
     }
 
     private Object transformArgument(Object argument, Object nameOrIndex) {
+        if (transformers.isEmpty()) {
+            return argument;
+        }
         try {
-            return transformArgumentWithLimit(argument, 0);
+            Transformation transformation = transformation(argument.getClass());
+            return transformation == null
+                    ? argument
+                    : transformation.apply(argument, 1);
         } catch (Throwable e) {
             throw new IllegalArgumentException("Could not transform argument: " + nameOrIndex + "=" + argument, e);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private Object transformArgumentWithLimit(Object argument, int count) {
-        if (count > 10) {
-            throw new IllegalArgumentException("Too many argument transformations");
+    private Transformation transformation(Class<?> type) {
+        Transformation transformation = transformations.get(type);
+        if (transformation == null) {
+            transformation = transformations.computeIfAbsent(type, this::createTransformation);
+        }
+        return transformation == noTransformation ? null : transformation;
+    }
+
+    private Transformation createTransformation(Class<?> type) {
+        I18nArgTransformer<?> transformer = findTransformer(type);
+        return transformer == null ? noTransformation : new Transformation(transformer);
+    }
+
+    // Lookup order: the class itself, its superclasses (Object excluded),
+    // interfaces in breadth first order, and finally Object.
+    private I18nArgTransformer<?> findTransformer(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            I18nArgTransformer<?> transformer = transformers.get(current);
+            if (transformer != null) {
+                return transformer;
+            }
         }
-        if (argument == null) {
-            return null;
+        Queue<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            queue.add(current);
         }
-        I18nArgTransformer<Object> transformer = (I18nArgTransformer<Object>) transformers.get(argument.getClass());
-        if (transformer == null) {
-            return argument;
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            for (Class<?> iface : current.getInterfaces()) {
+                if (visited.add(iface)) {
+                    I18nArgTransformer<?> transformer = transformers.get(iface);
+                    if (transformer != null) {
+                        return transformer;
+                    }
+                    queue.add(iface);
+                }
+            }
         }
-        Object transformed = transformer.transform(argument);
-        return transformArgumentWithLimit(transformed, count + 1);
+        return transformers.get(Object.class);
+    }
+
+    // Transformation chain for a runtime class.
+    // The next step is resolved by the runtime class of the transformed value
+    // and remembered, so a stable chain is walked without any type lookups.
+    private final class Transformation {
+        private final I18nArgTransformer<Object> transformer;
+        private volatile Link lastLink;
+
+        @SuppressWarnings("unchecked")
+        Transformation(I18nArgTransformer<?> transformer) {
+            this.transformer = (I18nArgTransformer<Object>) transformer;
+        }
+
+        Object apply(Object argument, int count) {
+            if (count > MAX_TRANSFORMATIONS) {
+                throw new IllegalArgumentException("Too many argument transformations");
+            }
+            Object transformed = transformer.transform(argument);
+            if (transformed == null) {
+                return null;
+            }
+            Transformation next = next(transformed.getClass());
+            return next == null
+                    ? transformed
+                    : next.apply(transformed, count + 1);
+        }
+
+        private Transformation next(Class<?> resultType) {
+            Link link = lastLink;
+            if (link != null && link.resultType == resultType) {
+                return link.next;
+            }
+            Transformation next = transformation(resultType);
+            lastLink = new Link(resultType, next);
+            return next;
+        }
+    }
+
+    private record Link(Class<?> resultType, Transformation next) {
     }
 }
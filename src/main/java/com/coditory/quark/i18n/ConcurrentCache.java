@@ -0,0 +1,118 @@
+package com.coditory.quark.i18n;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.coditory.quark.i18n.Preconditions.expect;
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Bounded cache with lock-free reads.
+// Entries are evicted with CLOCK (second chance) algorithm - a read only marks the entry as referenced
+// and eviction, performed on writes, skips and un-marks referenced entries.
+final class ConcurrentCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int capacity;
+    private Iterator<Map.Entry<K, Entry<V>>> clockHand;
+
+    ConcurrentCache() {
+        this(1024);
+    }
+
+    ConcurrentCache(int capacity) {
+        expect(capacity > 0, "Expected capacity > 0. Got: " + capacity);
+        this.capacity = capacity;
+    }
+
+    V get(K key) {
+        expectNonNull(key, "key");
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // read before write to not invalidate cpu caches on every hit
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    void put(K key, V value) {
+        expectNonNull(key, "key");
+        if (value == null) {
+            return;
+        }
+        // overriding a value counts as an access
+        Entry<V> previous = map.put(key, new Entry<>(value, map.containsKey(key)));
+        if (previous == null && map.size() > capacity) {
+            evict();
+        }
+    }
+
+    void remove(K key) {
+        expectNonNull(key, "key");
+        map.remove(key);
+    }
+
+    synchronized void clear() {
+        map.clear();
+        clockHand = null;
+    }
+
+    V computeIfAbsent(K key, Function<K, V> creator) {
+        V value = get(key);
+        // creator can be executed multiple times in case of race condition
+        if (value == null) {
+            value = creator.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    I18nCacheStats stats() {
+        return new I18nCacheStats(hits.sum(), misses.sum(), evictions.sum(), map.size());
+    }
+
+    private synchronized void evict() {
+        // entries are given a second chance for up to two clock rotations,
+        // after that concurrently referenced entries are evicted anyway to keep the cache bounded
+        int secondChances = 2 * map.size();
+        while (map.size() > capacity) {
+            if (clockHand == null || !clockHand.hasNext()) {
+                clockHand = map.entrySet().iterator();
+                if (!clockHand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<K, Entry<V>> candidate = clockHand.next();
+            Entry<V> entry = candidate.getValue();
+            if (entry.referenced && secondChances-- > 0) {
+                entry.referenced = false;
+            } else if (map.remove(candidate.getKey(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        // racy updates are acceptable, reference bit is only an eviction hint
+        volatile boolean referenced;
+
+        Entry(V value, boolean referenced) {
+            this.value = value;
+            this.referenced = referenced;
+        }
+    }
+}
@@ -11,6 +11,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 import static java.util.Collections.unmodifiableMap;
@@ -53,6 +55,7 @@ public final class Currencies {
 
     private static final Set<Currency> AVAILABLE_CURRENCIES = Currency.getAvailableCurrencies();
     private static final Map<Currency, Locale> LOCALE_BY_CURRENCY;
+    private static final ConcurrentHashMap<Currency, CurrencyFormat> FORMAT_BY_CURRENCY = new ConcurrentHashMap<>();
 
     static {
         Map<Currency, Locale> localeByCurrency = new HashMap<>();
@@ -73,31 +76,31 @@ public final class Currencies {
     public static String formatByCurrency(@NotNull BigDecimal amount, @NotNull Currency currency) {
         expectNonNull(amount, "amount");
         expectNonNull(currency, "currency");
-        Locale currencyLocale = LOCALE_BY_CURRENCY.get(currency);
-        if (currencyLocale == null) {
-            throw new IllegalArgumentException("Unrecognized currency: " + currency);
-        }
-        return NumberFormat.getCurrencyInstance(currencyLocale).format(amount);
+        return getCurrencyFormat(currency, "Unrecognized currency: ").format(amount);
     }
 
     @NotNull
     public static String formatByCurrency(long amount, @NotNull Currency currency) {
         expectNonNull(currency, "currency");
-        Locale currencyLocale = LOCALE_BY_CURRENCY.get(currency);
-        if (currencyLocale == null) {
-            throw new IllegalArgumentException("Missing locale for currency: " + currency);
-        }
-        return NumberFormat.getCurrencyInstance(currencyLocale).format(amount);
+        return getCurrencyFormat(currency, "Missing locale for currency: ").format(amount);
     }
 
     @NotNull
     public static String formatByCurrency(double amount, @NotNull Currency currency) {
         expectNonNull(currency, "currency");
+        return getCurrencyFormat(currency, "Missing locale for currency: ").format(amount);
+    }
+
+    private static CurrencyFormat getCurrencyFormat(Currency currency, String errorMessage) {
+        CurrencyFormat format = FORMAT_BY_CURRENCY.get(currency);
+        if (format != null) {
+            return format;
+        }
         Locale currencyLocale = LOCALE_BY_CURRENCY.get(currency);
         if (currencyLocale == null) {
-            throw new IllegalArgumentException("Missing locale for currency: " + currency);
+            throw new IllegalArgumentException(errorMessage + currency);
         }
-        return NumberFormat.getCurrencyInstance(currencyLocale).format(amount);
+        return FORMAT_BY_CURRENCY.computeIfAbsent(currency, c -> new CurrencyFormat(NumberFormat.getCurrencyInstance(currencyLocale)));
     }
 
     @NotNull
@@ -135,4 +138,55 @@ public final class Currencies {
     public static Optional<Currency> parseCurrencyOrEmpty(@NotNull String value) {
         return Optional.ofNullable(parseCurrencyOrNull(value));
     }
+
+    // JDK number formats are not thread safe, and cached formats are shared between threads,
+    // so formatting uses clones of the prototype kept in a few slots picked by the thread id.
+    // A thread takes the clone out of its slot, so threads never wait for each other,
+    // and on a collision the thread formats with a new clone.
+    private static final class CurrencyFormat {
+        private static final int SLOTS = Integer.highestOneBit(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        private final NumberFormat prototype;
+        private final AtomicReferenceArray<NumberFormat> formats = new AtomicReferenceArray<>(SLOTS);
+
+        CurrencyFormat(NumberFormat prototype) {
+            // prototype is only cloned and never used for formatting
+            this.prototype = prototype;
+        }
+
+        String format(BigDecimal amount) {
+            NumberFormat format = acquire();
+            String result = format.format(amount);
+            release(format);
+            return result;
+        }
+
+        String format(long amount) {
+            NumberFormat format = acquire();
+            String result = format.format(amount);
+            release(format);
+            return result;
+        }
+
+        String format(double amount) {
+            NumberFormat format = acquire();
+            String result = format.format(amount);
+            release(format);
+            return result;
+        }
+
+        private NumberFormat acquire() {
+            NumberFormat format = formats.getAndSet(slot(), null);
+            return format != null
+                    ? format
+                    : (NumberFormat) prototype.clone();
+        }
+
+        private void release(NumberFormat format) {
+            formats.set(slot(), format);
+        }
+
+        private static int slot() {
+            return (int) Thread.currentThread().threadId() & (SLOTS - 1);
+        }
+    }
 }
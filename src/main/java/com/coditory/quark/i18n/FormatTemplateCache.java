@@ -0,0 +1,27 @@
+package com.coditory.quark.i18n;
+
+import java.util.Locale;
+
+import static com.coditory.quark.i18n.Preconditions.expect;
+
+// Caches templates parsed for ad-hoc format(...) calls.
+// Parsed templates depend on references of the message pack, so the cache is bound to a single pack.
+final class FormatTemplateCache {
+    private final ConcurrentCache<Key, MessageTemplate> cache;
+
+    FormatTemplateCache(int maxEntries) {
+        expect(maxEntries > 0, "Expected maxEntries > 0. Got: " + maxEntries);
+        this.cache = new ConcurrentCache<>(maxEntries);
+    }
+
+    MessageTemplate getTemplate(MessageTemplateParser parser, Locale locale, String template) {
+        return cache.computeIfAbsent(new Key(template, locale), key -> parser.parseTemplate(locale, template));
+    }
+
+    I18nCacheStats stats() {
+        return cache.stats();
+    }
+
+    private record Key(String template, Locale locale) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.coditory.quark.i18n;
+
+public record I18nCacheStats(long hits, long misses, long evictions, int size) {
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
@@ -22,16 +22,20 @@ final class I18nKeyGenerator {
         expectNonNull(localeResolver, "localeResolver");
         expectNonNull(prefixes, "prefixes");
         this.defaultLocales = defaultLocales;
-        this.defaultPrefixes = prefixes.isEmpty() ? List.of(I18nPath.root()) : List.copyOf(prefixes);
+        this.defaultPrefixes = normalizePrefixes(prefixes);
         this.localeResolver = localeResolver;
     }
 
-    I18nKeyGenerator prefixQueries(I18nPath prefix) {
+    static List<I18nPath> normalizePrefixes(List<I18nPath> prefixes) {
+        expectNonNull(prefixes, "prefixes");
+        return prefixes.isEmpty() ? List.of(I18nPath.root()) : List.copyOf(prefixes);
+    }
+
+    List<I18nPath> prefixedWith(I18nPath prefix) {
         expectNonNull(prefix, "prefix");
-        List<I18nPath> resolved = defaultPrefixes.stream()
+        return defaultPrefixes.stream()
                 .map((p) -> p.child(prefix))
                 .toList();
-        return new I18nKeyGenerator(defaultLocales, resolved, localeResolver);
     }
 
     I18nKeyGenerator withPrefixes(List<I18nPath> prefixes) {
@@ -39,6 +43,10 @@ final class I18nKeyGenerator {
         return new I18nKeyGenerator(defaultLocales, prefixes, localeResolver);
     }
 
+    List<I18nPath> getDefaultPrefixes() {
+        return defaultPrefixes;
+    }
+
     List<I18nKey> keys(I18nKey key) {
         expectNonNull(key, "key");
         return keys(key, List.of());
@@ -2,6 +2,7 @@ package com.coditory.quark.i18n;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
@@ -38,6 +39,48 @@ public class I18nMessage {
         }
     }
 
+    String resolve(long arg0) {
+        try {
+            return template.resolve(locale, arg0);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Could not resolve message "
+                    + key.toShortString() + "=\"" + template.getValue()
+                    + "\" with indexed arguments [" + arg0 + "] and locale: " + locale, e);
+        }
+    }
+
+    public void appendMessage(@NotNull Appendable out, @NotNull Map<String, Object> args) {
+        try {
+            template.format(locale, args, out);
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Could not resolve message "
+                    + key.toShortString() + "=\"" + template.getValue()
+                    + "\" with named arguments " + args + " and locale: " + locale, e);
+        }
+    }
+
+    public void appendMessage(@NotNull Appendable out, @NotNull Object... args) {
+        try {
+            template.format(locale, args, out);
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Could not resolve message "
+                    + key.toShortString() + "=\"" + template.getValue()
+                    + "\" with indexed arguments " + Arrays.toString(args) + " and locale: " + locale, e);
+        }
+    }
+
+    Locale getLocale() {
+        return locale;
+    }
+
+    MessageTemplate getMessageTemplate() {
+        return template;
+    }
+
     @Override
     public String toString() {
         return "I18nMessage{" + key.toShortString() + "(" + locale + "): " + template + '}';
@@ -0,0 +1,111 @@
+package com.coditory.quark.i18n;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+final class I18nMessageIndex {
+    private static final int MIN_INDEXED_ENTRIES = 10_000;
+    private static final int MAX_MISSING_ENTRIES = 10_000;
+
+    static I18nMessageIndex of(Map<I18nKey, MessageTemplate> templates, I18nKeyGenerator keyGenerator) {
+        expectNonNull(templates, "templates");
+        expectNonNull(keyGenerator, "keyGenerator");
+        return new I18nMessageIndex(templates, keyGenerator);
+    }
+
+    private final ConcurrentHashMap<I18nKey, I18nMessage> index = new ConcurrentHashMap<>();
+    // messages queried with string paths, keyed by locale and the queried string
+    private final ConcurrentHashMap<Locale, ConcurrentHashMap<String, I18nMessage>> stringPathIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger indexedEntries = new AtomicInteger();
+    private final AtomicInteger stringPathEntries = new AtomicInteger();
+    // missing keys with checked candidate keys, so repeated queries skip probing and the list is reused by missing message handler
+    private final ConcurrentCache<I18nKey, List<I18nKey>> missing = new ConcurrentCache<>(MAX_MISSING_ENTRIES);
+    private final LongAdder missingLookups = new LongAdder();
+    private final LongAdder distinctMissingKeys = new LongAdder();
+    private final Map<I18nKey, MessageTemplate> templates;
+    private final I18nKeyGenerator keyGenerator;
+
+    private I18nMessageIndex(Map<I18nKey, MessageTemplate> templates, I18nKeyGenerator keyGenerator) {
+        this.templates = templates;
+        this.keyGenerator = keyGenerator;
+    }
+
+    I18nMessage get(I18nKey key) {
+        I18nMessage message = index.get(key);
+        if (message != null) {
+            return message;
+        }
+        if (missing.get(key) != null) {
+            missingLookups.increment();
+            return null;
+        }
+        List<I18nKey> candidates = keyGenerator.keys(key);
+        message = resolve(key, candidates);
+        if (message == null) {
+            missingLookups.increment();
+            distinctMissingKeys.increment();
+            missing.put(key, Collections.unmodifiableList(candidates));
+            return null;
+        }
+        // memoize only resolvable keys and do not let unknown locales grow the index without a limit
+        if (indexedEntries.get() < maxIndexedEntries() && index.putIfAbsent(key, message) == null) {
+            indexedEntries.incrementAndGet();
+        }
+        return message;
+    }
+
+    // keys checked for a missing message
+    List<I18nKey> getCheckedKeys(I18nKey key) {
+        List<I18nKey> checked = missing.get(key);
+        return checked != null
+                ? checked
+                : Collections.unmodifiableList(keyGenerator.keys(key));
+    }
+
+    I18nMissingMessageStats missingMessageStats() {
+        I18nCacheStats stats = missing.stats();
+        return new I18nMissingMessageStats(missingLookups.sum(), distinctMissingKeys.sum(), stats.evictions(), stats.size());
+    }
+
+    // string paths are mostly literals, so a hit usually ends on the identity check in String.equals
+    // and skips path parsing and key creation
+    I18nMessage get(Locale locale, String path) {
+        ConcurrentHashMap<String, I18nMessage> messages = stringPathIndex.get(locale);
+        I18nMessage message = messages != null ? messages.get(path) : null;
+        if (message != null) {
+            return message;
+        }
+        message = get(I18nKey.of(locale, path));
+        if (message != null && stringPathEntries.get() < maxIndexedEntries()) {
+            if (messages == null) {
+                messages = stringPathIndex.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+            }
+            if (messages.putIfAbsent(path, message) == null) {
+                stringPathEntries.incrementAndGet();
+            }
+        }
+        return message;
+    }
+
+    private I18nMessage resolve(I18nKey key, List<I18nKey> candidates) {
+        for (I18nKey candidate : candidates) {
+            MessageTemplate template = templates.get(candidate);
+            if (template != null) {
+                return new I18nMessage(key.locale(), candidate, template);
+            }
+        }
+        return null;
+    }
+
+    // templates of lazily loaded locales are added after the index is created
+    private int maxIndexedEntries() {
+        return Math.max(MIN_INDEXED_ENTRIES, templates.size());
+    }
+}
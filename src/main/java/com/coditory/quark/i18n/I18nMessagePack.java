@@ -52,6 +52,14 @@ public interface I18nMessagePack extends Closeable {
     @Nullable
     String getMessageOrNull(@NotNull I18nKey key, Map<String, Object> args);
 
+    // formats a single numeric argument, like a plural count, without boxing it when possible.
+    // A separate name keeps Java calls with int or Integer arguments bound to getMessage(key, Object...).
+    @NotNull
+    default String getMessageForCount(@NotNull I18nKey key, long arg0) {
+        expectNonNull(key, "key");
+        return getMessage(key, new Object[]{arg0});
+    }
+
     @NotNull
     default String getMessage(@NotNull I18nKey key) {
         expectNonNull(key, "key");
@@ -85,6 +93,22 @@ public interface I18nMessagePack extends Closeable {
         return getMessage(messageKey, args);
     }
 
+    @NotNull
+    default String getMessageForCount(@NotNull Locale locale, @NotNull String path, long arg0) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        I18nKey messageKey = I18nKey.of(locale, path);
+        return getMessageForCount(messageKey, arg0);
+    }
+
+    @NotNull
+    default String getMessageForCount(@NotNull Locale locale, @NotNull I18nPath path, long arg0) {
+        expectNonNull(locale, "locale");
+        expectNonNull(path, "path");
+        I18nKey messageKey = I18nKey.of(locale, path);
+        return getMessageForCount(messageKey, arg0);
+    }
+
     @NotNull
     default String getMessage(@NotNull Locale locale, @NotNull String path) {
         expectNonNull(locale, "locale");
@@ -123,12 +147,53 @@ public interface I18nMessagePack extends Closeable {
         return getMessageOrNull(locale, key, EMPTY_ARGS);
     }
 
+    default void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, Object... args) {
+        expectNonNull(out, "out");
+        Appendables.append(out, getMessage(key, args));
+    }
+
+    default void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
+        Appendables.append(out, getMessage(key, args));
+    }
+
+    default void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        I18nKey messageKey = I18nKey.of(locale, path);
+        appendMessage(out, messageKey, args);
+    }
+
+    default void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        I18nKey messageKey = I18nKey.of(locale, path);
+        appendMessage(out, messageKey, args);
+    }
+
+    default void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull I18nPath path, Object... args) {
+        expectNonNull(locale, "locale");
+        expectNonNull(path, "path");
+        I18nKey messageKey = I18nKey.of(locale, path);
+        appendMessage(out, messageKey, args);
+    }
+
     @NotNull
     String format(@NotNull Locale locale, @NotNull String template, Object... args);
 
     @NotNull
     String format(@NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args);
 
+    default void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, Object... args) {
+        expectNonNull(out, "out");
+        Appendables.append(out, format(locale, template, args));
+    }
+
+    default void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
+        Appendables.append(out, format(locale, template, args));
+    }
+
     @NotNull
     I18nMessages localize(@NotNull Locale locale);
 
@@ -163,6 +228,24 @@ public interface I18nMessagePack extends Closeable {
         return withQueryPrefixes(paths);
     }
 
+    // returns null if rendered message cache is disabled
+    @Nullable
+    default I18nCacheStats getRenderedMessageCacheStats() {
+        return null;
+    }
+
+    // returns null if missing messages are not tracked by the implementation
+    @Nullable
+    default I18nMissingMessageStats getMissingMessageStats() {
+        return null;
+    }
+
+    // returns null if format template cache is disabled
+    @Nullable
+    default I18nCacheStats getFormatTemplateCacheStats() {
+        return null;
+    }
+
     @Override
     default void close() {
         // implementation optional
@@ -3,33 +3,51 @@ package com.coditory.quark.i18n;
 import com.coditory.quark.i18n.loader.I18nLoader;
 import com.coditory.quark.i18n.loader.I18nMessageBundle;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static com.coditory.quark.i18n.I18nArgTransformers.javaTimeI18nArgTransformers;
+import static com.coditory.quark.i18n.Preconditions.expect;
 import static com.coditory.quark.i18n.Preconditions.expectNonBlank;
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
 public final class I18nMessagePackBuilder {
     private final AggregatedI18nLoader loader = new AggregatedI18nLoader();
+    private final List<Supplier<List<PrecompiledMessagePack.Entry>>> precompiledMessages = new ArrayList<>();
     private final List<I18nArgTransformer<?>> argTransformers = new ArrayList<>();
+    private final Set<Class<?>> renderedMessageCacheArgumentTypes = new HashSet<>(RenderedMessageCache.DEFAULT_ARGUMENT_TYPES);
     private I18nMissingMessageHandler missingMessageHandler = I18nMissingMessageHandler.errorThrowingHandler();
     private Locale defaultLocale;
-    private boolean transformJava8TimeTypes = true;
+    private boolean formatJavaTimeTypes = true;
+    private ZoneId defaultZoneId;
     private boolean normalizeWhitespaces = false;
     private boolean resolveReferences = true;
     private List<I18nPath> referencePrefixes = new ArrayList<>();
     private List<I18nPath> queryPrefixes = new ArrayList<>();
     private I18nMissingMessagesDetector missingMessagesDetector;
+    private int renderedMessageCacheMaxEntries = 0;
+    private int renderedMessageCacheMaxArguments = 0;
+    private int formatTemplateCacheMaxEntries = 0;
+    private Executor loadingExecutor;
+    private boolean loadLocalesLazily = false;
+    private List<Locale> warmUpLocales = new ArrayList<>();
 
     I18nMessagePackBuilder() {
         // package protected constructor
@@ -38,15 +56,24 @@ public final class I18nMessagePackBuilder {
     private I18nMessagePackBuilder copy() {
         I18nMessagePackBuilder builder = new I18nMessagePackBuilder();
         builder.loader.addLoader(loader.copy());
+        builder.precompiledMessages.addAll(precompiledMessages);
         builder.referencePrefixes.addAll(referencePrefixes);
         builder.queryPrefixes.addAll(queryPrefixes);
         builder.argTransformers.addAll(argTransformers);
         builder.missingMessageHandler = missingMessageHandler;
         builder.defaultLocale = defaultLocale;
-        builder.transformJava8TimeTypes = transformJava8TimeTypes;
+        builder.formatJavaTimeTypes = formatJavaTimeTypes;
+        builder.defaultZoneId = defaultZoneId;
         builder.normalizeWhitespaces = normalizeWhitespaces;
         builder.resolveReferences = resolveReferences;
         builder.missingMessagesDetector = missingMessagesDetector;
+        builder.renderedMessageCacheMaxEntries = renderedMessageCacheMaxEntries;
+        builder.renderedMessageCacheMaxArguments = renderedMessageCacheMaxArguments;
+        builder.renderedMessageCacheArgumentTypes.addAll(renderedMessageCacheArgumentTypes);
+        builder.formatTemplateCacheMaxEntries = formatTemplateCacheMaxEntries;
+        builder.loadingExecutor = loadingExecutor;
+        builder.loadLocalesLazily = loadLocalesLazily;
+        builder.warmUpLocales.addAll(warmUpLocales);
         return builder;
     }
 
@@ -145,7 +172,7 @@ public final class I18nMessagePackBuilder {
 
     @NotNull
     public I18nMessagePackBuilder disableJava8ArgumentTransformers() {
-        this.transformJava8TimeTypes = false;
+        this.formatJavaTimeTypes = false;
         return this;
     }
 
@@ -191,6 +218,40 @@ public final class I18nMessagePackBuilder {
         return this;
     }
 
+    @NotNull
+    public I18nMessagePackBuilder cacheRenderedMessages(int maxEntries) {
+        return cacheRenderedMessages(maxEntries, 3);
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder cacheRenderedMessages(int maxEntries, int maxArguments) {
+        expect(maxEntries > 0, "Expected maxEntries > 0. Got: " + maxEntries);
+        expect(maxArguments > 0, "Expected maxArguments > 0. Got: " + maxArguments);
+        this.renderedMessageCacheMaxEntries = maxEntries;
+        this.renderedMessageCacheMaxArguments = maxArguments;
+        return this;
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder addRenderedMessageCacheArgumentType(@NotNull Class<?> type) {
+        expectNonNull(type, "type");
+        this.renderedMessageCacheArgumentTypes.add(type);
+        return this;
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder cacheFormatTemplates(int maxEntries) {
+        expect(maxEntries > 0, "Expected maxEntries > 0. Got: " + maxEntries);
+        this.formatTemplateCacheMaxEntries = maxEntries;
+        return this;
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder disableFormatTemplateCache() {
+        this.formatTemplateCacheMaxEntries = 0;
+        return this;
+    }
+
     @NotNull
     public I18nMessagePackBuilder addLoader(@NotNull I18nLoader loader) {
         expectNonNull(loader, "loader");
@@ -198,6 +259,26 @@ public final class I18nMessagePackBuilder {
         return this;
     }
 
+    @NotNull
+    public I18nMessagePackBuilder addPrecompiledMessages(@NotNull Path file) {
+        expectNonNull(file, "file");
+        this.precompiledMessages.add(() -> PrecompiledMessagePack.read(file));
+        return this;
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder addPrecompiledMessagesFromClassPath(@NotNull String resourceName) {
+        return addPrecompiledMessagesFromClassPath(Thread.currentThread().getContextClassLoader(), resourceName);
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder addPrecompiledMessagesFromClassPath(@NotNull ClassLoader classLoader, @NotNull String resourceName) {
+        expectNonNull(classLoader, "classLoader");
+        expectNonBlank(resourceName, "resourceName");
+        this.precompiledMessages.add(() -> PrecompiledMessagePack.readClassPath(classLoader, resourceName));
+        return this;
+    }
+
     @NotNull
     public I18nMessagePackBuilder addMessage(@NotNull Locale locale, @NotNull I18nPath path, @NotNull String template) {
         expectNonNull(locale, "locale");
@@ -250,6 +331,13 @@ public final class I18nMessagePackBuilder {
         return this;
     }
 
+    @NotNull
+    public I18nMessagePackBuilder setDefaultZoneId(@NotNull ZoneId defaultZoneId) {
+        expectNonNull(defaultZoneId, "defaultZoneId");
+        this.defaultZoneId = defaultZoneId;
+        return this;
+    }
+
     @NotNull
     public I18nMessagePackBuilder prefixReferenceQueries(@NotNull List<I18nPath> prefixes) {
         expectNonNull(prefixes, "prefixes");
@@ -290,10 +378,55 @@ public final class I18nMessagePackBuilder {
         return prefixQueries(List.of(prefixes));
     }
 
+    @NotNull
+    public I18nMessagePackBuilder loadInParallel() {
+        return loadInParallel(ForkJoinPool.commonPool());
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder loadInParallel(@NotNull Executor executor) {
+        expectNonNull(executor, "executor");
+        this.loadingExecutor = executor;
+        return this;
+    }
+
+    // messages from files matched with a {locale} or {lang} path group are compiled on the first query for the locale.
+    // Cannot be used with missing message detection, which needs all messages, nor with reloadable message packs.
+    @NotNull
+    public I18nMessagePackBuilder loadLocalesLazily() {
+        return loadLocalesLazily(List.of());
+    }
+
+    // warm up locales are compiled when the message pack is built
+    @NotNull
+    public I18nMessagePackBuilder loadLocalesLazily(@NotNull Locale... warmUpLocales) {
+        expectNonNull(warmUpLocales, "warmUpLocales");
+        return loadLocalesLazily(Arrays.asList(warmUpLocales));
+    }
+
+    @NotNull
+    public I18nMessagePackBuilder loadLocalesLazily(@NotNull List<Locale> warmUpLocales) {
+        expectNonNull(warmUpLocales, "warmUpLocales");
+        warmUpLocales.forEach(locale -> expectNonNull(locale, "warmUpLocale"));
+        this.loadLocalesLazily = true;
+        this.warmUpLocales = new ArrayList<>(warmUpLocales);
+        return this;
+    }
+
     @NotNull
     public I18nMessagePack build() {
-        List<I18nMessageBundle> bundles = loader.load();
-        return build(bundles);
+        if (loadLocalesLazily) {
+            if (missingMessagesDetector != null) {
+                throw new IllegalStateException("Lazy locale loading cannot be used with missing message detection");
+            }
+            return copy().buildLazily();
+        }
+        return build(loadBundles());
+    }
+
+    // templates of all locales, parsed eagerly even if locales are configured to be loaded lazily
+    Map<I18nKey, MessageTemplate> buildTemplates() {
+        return compile(loadBundles()).templates();
     }
 
     @NotNull
@@ -305,9 +438,12 @@ public final class I18nMessagePackBuilder {
 
     @NotNull
     public Reloadable18nMessagePack buildReloadable() {
+        if (loadLocalesLazily) {
+            throw new IllegalStateException("Lazy locale loading cannot be used with reloadable message pack");
+        }
         I18nMessagePackBuilder copy = this.copy();
         AggregatedI18nLoader loader = copy.loader;
-        return new Reloadable18nMessagePack(loader, copy::build);
+        return new Reloadable18nMessagePack(loader, copy::buildSnapshot, copy::updateSnapshot);
     }
 
     @NotNull
@@ -317,31 +453,173 @@ public final class I18nMessagePackBuilder {
         return messagePack;
     }
 
+    @NotNull
+    public Reloadable18nMessagePack buildAndWatchForChanges(@NotNull Duration debounce) {
+        expectNonNull(debounce, "debounce");
+        Reloadable18nMessagePack messagePack = buildReloadable();
+        messagePack.startWatching(debounce);
+        return messagePack;
+    }
+
+    private List<I18nMessageBundle> loadBundles() {
+        return loadingExecutor != null
+                ? loader.load(loadingExecutor)
+                : loader.load();
+    }
+
     private I18nMessagePack build(List<I18nMessageBundle> bundles) {
+        Compilation compilation = compile(bundles);
+        return buildMessagePack(compilation.templates(), compilation.parser(), compilation.localeResolver());
+    }
+
+    private Compilation compile(List<I18nMessageBundle> bundles) {
         bundles = TemplatesBundlePrefixes.prefix(bundles);
-        detectMissingMessages(bundles);
-        LocaleResolver localeResolver = LocaleResolver.of(defaultLocale, bundles);
+        List<PrecompiledMessagePack.Entry> precompiled = loadPrecompiledMessages();
+        List<I18nMessageBundle> allBundles = withPrecompiledMessages(bundles, precompiled);
+        detectMissingMessages(allBundles);
+        LocaleResolver localeResolver = LocaleResolver.of(defaultLocale, allBundles);
+        MessageTemplateParser parser = buildMessageTemplateParser(allBundles, localeResolver, null);
+        Map<I18nKey, MessageTemplate> templates = parseTemplates(parser, bundles, precompiled);
+        return new Compilation(templates, parser, localeResolver);
+    }
+
+    private record Compilation(Map<I18nKey, MessageTemplate> templates, MessageTemplateParser parser, LocaleResolver localeResolver) {
+    }
+
+    private I18nMessagePack buildLazily() {
+        LazyLocaleLoader lazyLoader = new LazyLocaleLoader(loader.loadLazily(), loadPrecompiledMessages(), defaultLocale, new LazyLocaleLoader.Compiler() {
+            @Override
+            public MessageTemplateParser parser(List<I18nMessageBundle> bundles, LocaleResolver localeResolver) {
+                return buildMessageTemplateParser(bundles, localeResolver, null);
+            }
+
+            @Override
+            public ImmutableI18nMessagePack messagePack(Map<I18nKey, MessageTemplate> templates, MessageTemplateParser parser, LocaleResolver localeResolver) {
+                I18nKeyGenerator messageKeyGenerator = new I18nKeyGenerator(defaultLocale, queryPrefixes, localeResolver);
+                return ImmutableI18nMessagePack.withGrowingTemplates(templates, parser, missingMessageHandler, messageKeyGenerator, buildRenderedMessageCache(), buildFormatTemplateCache());
+            }
+        });
+        warmUpLocales.forEach(lazyLoader::messagePack);
+        return new LazyI18nMessagePack(lazyLoader);
+    }
+
+    private MessagePackSnapshot buildSnapshot(List<I18nMessageBundle> bundles) {
+        return buildSnapshot(bundles, loadPrecompiledMessages());
+    }
+
+    private MessagePackSnapshot buildSnapshot(List<I18nMessageBundle> bundles, List<PrecompiledMessagePack.Entry> precompiled) {
+        List<I18nMessageBundle> prefixedBundles = TemplatesBundlePrefixes.prefix(bundles);
+        List<I18nMessageBundle> allBundles = withPrecompiledMessages(prefixedBundles, precompiled);
+        detectMissingMessages(allBundles);
+        LocaleResolver localeResolver = LocaleResolver.of(defaultLocale, allBundles);
+        ReferenceGraph referenceGraph = new ReferenceGraph();
+        MessageTemplateParser parser = buildMessageTemplateParser(allBundles, localeResolver, referenceGraph);
+        Map<I18nKey, MessageTemplate> templates = parseTemplates(parser, prefixedBundles, precompiled);
+        I18nMessagePack messagePack = buildMessagePack(templates, parser, localeResolver);
+        Map<I18nKey, MessagePackSnapshot.Source> sources = MessagePackSnapshot.sources(prefixedBundles, precompiled);
+        return new MessagePackSnapshot(bundles, prefixedBundles, precompiled, sources, templates, referenceGraph, localeResolver.getAvailableLocales(), messagePack);
+    }
+
+    // recompiles only changed messages and messages that reference them, other templates are shared with the previous pack
+    private MessagePackSnapshot updateSnapshot(MessagePackSnapshot previous, List<I18nMessageBundle> bundles) {
+        // precompiled messages are not watched
+        List<PrecompiledMessagePack.Entry> precompiled = previous.precompiled();
+        List<I18nMessageBundle> prefixedBundles = previous.prefix(bundles);
+        List<I18nMessageBundle> allBundles = withPrecompiledMessages(prefixedBundles, precompiled);
+        LocaleResolver localeResolver = LocaleResolver.of(defaultLocale, allBundles);
+        if (!localeResolver.getAvailableLocales().equals(previous.locales())) {
+            // locale fallbacks of all messages may change
+            return buildSnapshot(bundles, precompiled);
+        }
+        Map<I18nKey, MessagePackSnapshot.Source> sources = MessagePackSnapshot.sources(prefixedBundles, precompiled);
+        ReferenceGraph referenceGraph = previous.referenceGraph().copy();
+        Set<I18nKey> affected = referenceGraph.withDependents(previous.changedKeys(sources));
+        MessageTemplateParser parser = buildMessageTemplateParser(allBundles, localeResolver, referenceGraph);
+        Map<I18nKey, MessageTemplate> templates = new HashMap<>(previous.templates());
+        for (I18nKey key : affected) {
+            referenceGraph.removeDependencies(key);
+            MessagePackSnapshot.Source source = sources.get(key);
+            if (source == null) {
+                templates.remove(key);
+            } else if (source.precompiled() != null) {
+                templates.put(key, parser.parsePrecompiledTemplate(source.precompiled()));
+            } else {
+                templates.put(key, parser.parseTemplate(key, source.template()));
+            }
+        }
+        I18nMessagePack messagePack = buildMessagePack(templates, parser, localeResolver);
+        return new MessagePackSnapshot(bundles, prefixedBundles, precompiled, sources, templates, referenceGraph, previous.locales(), messagePack);
+    }
+
+    private Map<I18nKey, MessageTemplate> parseTemplates(MessageTemplateParser parser, List<I18nMessageBundle> bundles, List<PrecompiledMessagePack.Entry> precompiled) {
+        Map<I18nKey, MessageTemplate> templates = loadingExecutor != null
+                ? parser.parseTemplates(bundles, loadingExecutor)
+                : parser.parseTemplates(bundles);
+        if (!precompiled.isEmpty()) {
+            // precompiled messages are overridden by all other messages
+            Map<I18nKey, MessageTemplate> parsed = parser.parsePrecompiledTemplates(precompiled);
+            parsed.putAll(templates);
+            templates = parsed;
+        }
+        return templates;
+    }
+
+    private I18nMessagePack buildMessagePack(Map<I18nKey, MessageTemplate> templates, MessageTemplateParser parser, LocaleResolver localeResolver) {
         I18nKeyGenerator messageKeyGenerator = new I18nKeyGenerator(defaultLocale, queryPrefixes, localeResolver);
-        MessageTemplateParser parser = buildMessageTemplateParser(bundles, localeResolver);
-        Map<I18nKey, MessageTemplate> templates = parser.parseTemplates(bundles);
-        return new ImmutableI18nMessagePack(templates, parser, missingMessageHandler, messageKeyGenerator);
+        return new ImmutableI18nMessagePack(templates, parser, missingMessageHandler, messageKeyGenerator, buildRenderedMessageCache(), buildFormatTemplateCache());
     }
 
-    private MessageTemplateParser buildMessageTemplateParser(List<I18nMessageBundle> bundles, LocaleResolver localeResolver) {
+    @Nullable
+    private RenderedMessageCache buildRenderedMessageCache() {
+        return renderedMessageCacheMaxEntries > 0
+                ? new RenderedMessageCache(renderedMessageCacheMaxEntries, renderedMessageCacheMaxArguments, renderedMessageCacheArgumentTypes)
+                : null;
+    }
+
+    // parsed templates depend on the parser, so every message pack gets its own cache
+    @Nullable
+    private FormatTemplateCache buildFormatTemplateCache() {
+        return formatTemplateCacheMaxEntries > 0
+                ? new FormatTemplateCache(formatTemplateCacheMaxEntries)
+                : null;
+    }
+
+    private List<PrecompiledMessagePack.Entry> loadPrecompiledMessages() {
+        if (precompiledMessages.isEmpty()) {
+            return List.of();
+        }
+        List<PrecompiledMessagePack.Entry> result = new ArrayList<>();
+        for (Supplier<List<PrecompiledMessagePack.Entry>> source : precompiledMessages) {
+            result.addAll(source.get());
+        }
+        return result;
+    }
+
+    // precompiled messages take part in locale resolution, missing message detection and can be referenced
+    private List<I18nMessageBundle> withPrecompiledMessages(List<I18nMessageBundle> bundles, List<PrecompiledMessagePack.Entry> precompiled) {
+        if (precompiled.isEmpty()) {
+            return bundles;
+        }
+        Map<I18nKey, String> templates = new LinkedHashMap<>();
+        for (PrecompiledMessagePack.Entry entry : precompiled) {
+            templates.put(entry.key(), entry.template());
+        }
+        List<I18nMessageBundle> result = new ArrayList<>(bundles.size() + 1);
+        result.add(new I18nMessageBundle(templates));
+        result.addAll(bundles);
+        return result;
+    }
+
+    private MessageTemplateParser buildMessageTemplateParser(List<I18nMessageBundle> bundles, LocaleResolver localeResolver, @Nullable ReferenceGraph referenceGraph) {
         I18nKeyGenerator referenceKeyGenerator = new I18nKeyGenerator(defaultLocale, referencePrefixes, localeResolver);
-        ReferenceResolver referenceResolver = new ReferenceResolver(bundles, referenceKeyGenerator, resolveReferences);
+        ReferenceResolver referenceResolver = new ReferenceResolver(bundles, referenceKeyGenerator, resolveReferences, referenceGraph);
         ArgumentResolver argumentResolver = buildArgumentResolver();
         MessageTemplateNormalizer messageTemplateNormalizer = new MessageTemplateNormalizer(normalizeWhitespaces);
-        return new MessageTemplateParser(referenceResolver, argumentResolver, messageTemplateNormalizer);
+        return new MessageTemplateParser(referenceResolver, argumentResolver, messageTemplateNormalizer, formatJavaTimeTypes, defaultZoneId);
     }
 
     private ArgumentResolver buildArgumentResolver() {
-        List<I18nArgTransformer<?>> result = new ArrayList<>();
-        if (transformJava8TimeTypes) {
-            result.addAll(javaTimeI18nArgTransformers());
-        }
-        result.addAll(argTransformers);
-        return ArgumentResolver.of(result);
+        return ArgumentResolver.of(argTransformers);
     }
 
     private void detectMissingMessages(List<I18nMessageBundle> bundles) {
@@ -0,0 +1,91 @@
+package com.coditory.quark.i18n;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Writes resolved templates to a binary file that is loaded with I18nMessagePackBuilder.addPrecompiledMessages(...)
+// without scanning, parsing message files and resolving references.
+public final class I18nMessagePackCompiler {
+    private static final String USAGE = """
+            Usage: I18nMessagePackCompiler [options] <output-file> <path-pattern>...
+            Options:
+              --classpath                     scan classpath instead of file system
+              --default-locale <locale>       default locale used to resolve references
+              --reference-prefix <path>       prefix for reference queries, can be repeated
+              --normalize-whitespaces         normalize whitespaces in templates
+              --disable-reference-resolution  disable reference resolution""";
+
+    private I18nMessagePackCompiler() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    public static void main(String[] args) {
+        Path output = compile(args);
+        System.out.println("Precompiled message pack written to: " + output);
+    }
+
+    static Path compile(String[] args) {
+        expectNonNull(args, "args");
+        I18nMessagePackBuilder builder = I18nMessagePack.builder();
+        List<String> positional = new ArrayList<>();
+        List<I18nPath> referencePrefixes = new ArrayList<>();
+        boolean classpath = false;
+        for (int i = 0; i < args.length; ++i) {
+            switch (args[i]) {
+                case "--classpath" -> classpath = true;
+                case "--default-locale" -> builder.setDefaultLocale(Locales.parseLocale(optionValue(args, ++i)));
+                case "--reference-prefix" -> referencePrefixes.add(I18nPath.of(optionValue(args, ++i)));
+                case "--normalize-whitespaces" -> builder.normalizeWhitespaces();
+                case "--disable-reference-resolution" -> builder.disableReferenceResolution();
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i] + "\n" + USAGE);
+                    }
+                    positional.add(args[i]);
+                }
+            }
+        }
+        if (positional.size() < 2) {
+            throw new IllegalArgumentException("Expected output file and at least one path pattern\n" + USAGE);
+        }
+        Path output = Path.of(positional.get(0));
+        String firstPattern = positional.get(1);
+        String[] otherPatterns = positional.subList(2, positional.size()).toArray(String[]::new);
+        if (classpath) {
+            builder.scanClassPath(firstPattern, otherPatterns);
+        } else {
+            builder.scanFileSystem(firstPattern, otherPatterns);
+        }
+        if (!referencePrefixes.isEmpty()) {
+            builder.prefixReferenceQueries(referencePrefixes);
+        }
+        compile(builder, output);
+        return output;
+    }
+
+    private static String optionValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for option: " + args[index - 1] + "\n" + USAGE);
+        }
+        return args[index];
+    }
+
+    public static void compile(@NotNull I18nMessagePackBuilder builder, @NotNull Path output) {
+        expectNonNull(builder, "builder");
+        expectNonNull(output, "output");
+        Map<I18nKey, MessageTemplate> templates = builder.buildTemplates();
+        try {
+            PrecompiledMessagePack.write(templates, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write precompiled message pack: " + output, e);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.coditory.quark.i18n;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonBlank;
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
@@ -14,10 +16,16 @@ public final class I18nMessages {
     static final Object[] EMPTY_ARGS = new Object[0];
     private final I18nMessagePack messagePack;
     private final Locale locale;
+    private final ZoneId zoneId;
 
     I18nMessages(I18nMessagePack messagePack, Locale locale) {
+        this(messagePack, locale, null);
+    }
+
+    private I18nMessages(I18nMessagePack messagePack, Locale locale, ZoneId zoneId) {
         this.messagePack = expectNonNull(messagePack, "messagePack");
         this.locale = expectNonNull(locale, "locale");
+        this.zoneId = zoneId;
     }
 
     @NotNull
@@ -48,14 +56,20 @@ public final class I18nMessages {
     public String getMessage(@NotNull I18nPath path, Object... args) {
         expectNonNull(path, "path");
         expectNonNull(args, "args");
-        return messagePack.getMessage(locale, path, args);
+        return messagePack.getMessage(locale, path, zoned(args));
+    }
+
+    @NotNull
+    public String getMessageForCount(@NotNull I18nPath path, long arg0) {
+        expectNonNull(path, "path");
+        return messagePack.getMessageForCount(locale, path, arg0);
     }
 
     @Nullable
     public String getMessageOrNull(@NotNull I18nPath path, Object... args) {
         expectNonNull(path, "path");
         expectNonNull(args, "args");
-        return messagePack.getMessageOrNull(locale, path, args);
+        return messagePack.getMessageOrNull(locale, path, zoned(args));
     }
 
     @NotNull
@@ -74,28 +88,34 @@ public final class I18nMessages {
     public String getMessage(@NotNull String key, Object... args) {
         expectNonBlank(key, "key");
         expectNonNull(args, "args");
-        return messagePack.getMessage(locale, key, args);
+        return messagePack.getMessage(locale, key, zoned(args));
+    }
+
+    @NotNull
+    public String getMessageForCount(@NotNull String key, long arg0) {
+        expectNonBlank(key, "key");
+        return messagePack.getMessageForCount(locale, key, arg0);
     }
 
     @Nullable
     public String getMessageOrNull(@NotNull String key, Object... args) {
         expectNonBlank(key, "key");
         expectNonNull(args, "args");
-        return messagePack.getMessageOrNull(locale, key, args);
+        return messagePack.getMessageOrNull(locale, key, zoned(args));
     }
 
     @NotNull
     public String getMessage(@NotNull String key, @NotNull Map<String, Object> args) {
         expectNonBlank(key, "key");
         expectNonNull(args, "args");
-        return messagePack.getMessage(locale, key, args);
+        return messagePack.getMessage(locale, key, zoned(args));
     }
 
     @Nullable
     public String getMessageOrNull(@NotNull String key, @NotNull Map<String, Object> args) {
         expectNonBlank(key, "key");
         expectNonNull(args, "args");
-        return messagePack.getMessageOrNull(locale, key, args);
+        return messagePack.getMessageOrNull(locale, key, zoned(args));
     }
 
     @NotNull
@@ -110,6 +130,27 @@ public final class I18nMessages {
         return messagePack.getMessageOrNull(locale, key);
     }
 
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nPath path, Object... args) {
+        expectNonNull(out, "out");
+        expectNonNull(path, "path");
+        expectNonNull(args, "args");
+        messagePack.appendMessage(out, locale, path, zoned(args));
+    }
+
+    public void appendMessage(@NotNull Appendable out, @NotNull String key, Object... args) {
+        expectNonNull(out, "out");
+        expectNonBlank(key, "key");
+        expectNonNull(args, "args");
+        messagePack.appendMessage(out, locale, key, zoned(args));
+    }
+
+    public void appendMessage(@NotNull Appendable out, @NotNull String key, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
+        expectNonBlank(key, "key");
+        expectNonNull(args, "args");
+        messagePack.appendMessage(out, locale, key, zoned(args));
+    }
+
     @NotNull
     public I18nMessages prefixQueries(@NotNull String prefix) {
         expectNonNull(prefix, "prefix");
@@ -119,36 +160,68 @@ public final class I18nMessages {
     @NotNull
     public I18nMessages prefixQueries(@NotNull I18nPath prefix) {
         expectNonNull(prefix, "prefix");
-        return messagePack.prefixQueries(prefix).localize(locale);
+        return messagePack.prefixQueries(prefix).localize(locale).withZoneId(zoneId);
     }
 
     @NotNull
     public I18nMessages withQueryPrefixes(@NotNull List<I18nPath> prefixes) {
         expectNonNull(prefixes, "prefixes");
-        return messagePack.withQueryPrefixes(prefixes).localize(locale);
+        return messagePack.withQueryPrefixes(prefixes).localize(locale).withZoneId(zoneId);
     }
 
     @NotNull
     public I18nMessages withQueryPrefixes(@NotNull I18nPath... prefixes) {
         expectNonNull(prefixes, "prefixes");
-        return messagePack.withQueryPrefixes(prefixes).localize(locale);
+        return messagePack.withQueryPrefixes(prefixes).localize(locale).withZoneId(zoneId);
     }
 
     @NotNull
     public I18nMessages withQueryPrefixes(@NotNull String... prefixes) {
         expectNonNull(prefixes, "prefixes");
-        return messagePack.withQueryPrefixes(prefixes).localize(locale);
+        return messagePack.withQueryPrefixes(prefixes).localize(locale).withZoneId(zoneId);
     }
 
     @NotNull
     public String format(@NotNull String template, Object... args) {
         expectNonNull(template, "template");
         expectNonNull(args, "args");
-        return messagePack.format(locale, template, args);
+        return messagePack.format(locale, template, zoned(args));
+    }
+
+    public void appendFormatted(@NotNull Appendable out, @NotNull String template, Object... args) {
+        expectNonNull(out, "out");
+        expectNonNull(template, "template");
+        expectNonNull(args, "args");
+        messagePack.appendFormatted(out, locale, template, zoned(args));
     }
 
     @NotNull
     public Locale getLocale() {
         return locale;
     }
+
+    // formats java.time values without zone (Instant, LocalDateTime, LocalDate) in the given zone
+    @NotNull
+    public I18nMessages withZoneId(@Nullable ZoneId zoneId) {
+        return Objects.equals(this.zoneId, zoneId)
+                ? this
+                : new I18nMessages(messagePack, locale, zoneId);
+    }
+
+    @Nullable
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    private Object[] zoned(Object[] args) {
+        return zoneId == null || args.length == 0
+                ? args
+                : JavaTimeArguments.atZone(args, zoneId);
+    }
+
+    private Map<String, Object> zoned(Map<String, Object> args) {
+        return zoneId == null
+                ? args
+                : JavaTimeArguments.atZone(args, zoneId);
+    }
 }
@@ -0,0 +1,6 @@
+package com.coditory.quark.i18n;
+
+// Statistics of queries for missing messages.
+// Missing keys are remembered in a bounded cache, so a key evicted from the cache and queried again is counted again.
+public record I18nMissingMessageStats(long lookups, long distinctKeys, long evictions, int size) {
+}
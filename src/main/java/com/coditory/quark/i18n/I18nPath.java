@@ -1,32 +1,30 @@
 package com.coditory.quark.i18n;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
+// Paths are interned, so equal paths share one instance as long as any of them is referenced.
+// Each path keeps its parent and last segment, so child and parent paths are created without copying segments.
 public final class I18nPath {
-    private static final Set<Integer> WHITELIST_CHARS = (
+    private static final boolean[] WHITELIST_CHARS = whitelistChars(
             "ABCDEFGHIJKLMNOPQRSTUVWXYZ" +
                     "abcdefghijklmnopqrstuvwxyz" +
                     "0123456789" +
                     "-_"
-    )
-            .chars()
-            .boxed()
-            .collect(toSet());
-    private static final String SEPARATOR = ".";
-    private static final I18nPath ROOT = new I18nPath(List.of());
+    );
+    private static final char SEPARATOR = '.';
+    private static final I18nPath ROOT = new I18nPath(null, "", "");
+    private static final ConcurrentHashMap<String, InternedPath> INTERNED = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<I18nPath> COLLECTED = new ReferenceQueue<>();
 
     @NotNull
     static public I18nPath root() {
@@ -36,9 +34,7 @@ public final class I18nPath {
     @NotNull
     static public I18nPath of(@NotNull String... path) {
         expectNonNull(path, "path");
-        List<String> segments = Arrays.asList(path);
-        validate(segments);
-        return create(segments);
+        return of(Arrays.asList(path));
     }
 
     @NotNull
@@ -47,20 +43,33 @@ public final class I18nPath {
         List<String> normalized = Arrays.stream(path)
                 .filter(segment -> !segment.isBlank())
                 .toList();
-        validate(normalized);
-        return create(normalized);
+        return of(normalized);
     }
 
     @NotNull
     static public I18nPath of(@NotNull List<String> path) {
         validate(path);
-        return create(path);
+        I18nPath result = ROOT;
+        for (String segment : path) {
+            if (!segment.isEmpty()) {
+                result = result.internChild(segment);
+            }
+        }
+        return result;
     }
 
     @NotNull
     static public I18nPath of(@NotNull String path) {
+        expectNonNull(path, "path");
+        if (path.isEmpty()) {
+            return ROOT;
+        }
+        I18nPath interned = lookup(path);
+        if (interned != null) {
+            return interned;
+        }
         validate(path);
-        return create(split(path));
+        return ROOT.appendSegments(path);
     }
 
     static public void validate(@NotNull String path) {
@@ -74,73 +83,122 @@ public final class I18nPath {
         if (path.endsWith(".")) {
             throw new IllegalArgumentException("Path must not end with: \".\"");
         }
-        validate(split(path));
+        for (int i = 0; i < path.length(); ++i) {
+            char c = path.charAt(i);
+            if (c != SEPARATOR && !isWhitelisted(c)) {
+                int start = path.lastIndexOf(SEPARATOR, i) + 1;
+                int end = path.indexOf(SEPARATOR, i);
+                String segment = path.substring(start, end < 0 ? path.length() : end);
+                throw invalidCharacter(c, segment, () -> path);
+            }
+        }
     }
 
     static private void validate(@NotNull List<String> segments) {
         expectNonNull(segments, "segments");
-        segments.forEach(segment -> validateSegment(segment, segments));
+        for (String segment : segments) {
+            validateSegment(segment, segments);
+        }
     }
 
     static private void validateSegment(@NotNull String segment, List<String> segments) {
         expectNonNull(segment, "segment");
-        Supplier<String> path = () -> String.join(SEPARATOR, segments);
-        for (int c : segment.toCharArray()) {
-            if (!WHITELIST_CHARS.contains(c)) {
-                throw new IllegalArgumentException("Invalid character '" + (char) c + "' in path segment: " + segment
-                        + " in path: " + path.get());
+        for (int i = 0; i < segment.length(); ++i) {
+            char c = segment.charAt(i);
+            if (!isWhitelisted(c)) {
+                throw invalidCharacter(c, segment, () -> String.join(String.valueOf(SEPARATOR), segments));
             }
         }
     }
 
-    static private List<String> split(String path) {
-        expectNonNull(path, "path");
-        if (path.equals(SEPARATOR)) {
-            return Arrays.asList("", "");
+    static private boolean isWhitelisted(char c) {
+        return c < WHITELIST_CHARS.length && WHITELIST_CHARS[c];
+    }
+
+    static private IllegalArgumentException invalidCharacter(char c, String segment, Supplier<String> path) {
+        return new IllegalArgumentException("Invalid character '" + c + "' in path segment: " + segment
+                + " in path: " + path.get());
+    }
+
+    static private boolean[] whitelistChars(String chars) {
+        boolean[] result = new boolean[128];
+        for (int i = 0; i < chars.length(); ++i) {
+            result[chars.charAt(i)] = true;
         }
-        return Collections.list(new StringTokenizer(path, SEPARATOR)).stream()
-                .map(token -> (String) token)
-                .collect(toList());
+        return result;
+    }
+
+    @Nullable
+    static private I18nPath lookup(String path) {
+        InternedPath interned = INTERNED.get(path);
+        return interned != null ? interned.get() : null;
     }
 
-    static private I18nPath create(List<String> segments) {
-        return segments.isEmpty()
-                ? ROOT
-                : new I18nPath(segments);
+    static private void expungeCollected() {
+        InternedPath collected;
+        while ((collected = (InternedPath) COLLECTED.poll()) != null) {
+            INTERNED.remove(collected.path, collected);
+        }
     }
 
     private final String path;
-    private final List<String> segments;
+    private final String segment;
+    private final @Nullable I18nPath parent;
+    private final int depth;
+    private final int hash;
+    // built on first use, racy initialization is safe as the list is immutable
+    private List<String> segments;
 
-    private I18nPath(List<String> segments) {
-        expectNonNull(segments, "segments");
-        this.path = String.join(SEPARATOR, segments);
-        this.segments = List.copyOf(segments);
+    private I18nPath(@Nullable I18nPath parent, String segment, String path) {
+        this.parent = parent;
+        this.segment = segment;
+        this.path = path;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.hash = path.hashCode();
     }
 
     public boolean isRoot() {
-        return path.isEmpty();
+        return depth == 0;
     }
 
     @NotNull
     public I18nPath child(@NotNull String subPath) {
+        expectNonNull(subPath, "subPath");
         if (subPath.isBlank()) {
             return this;
         }
-        return child(I18nPath.of(subPath));
+        if (isRoot()) {
+            return of(subPath);
+        }
+        // only valid paths are interned, so a hit means the sub path is valid
+        I18nPath interned = lookup(path + SEPARATOR + subPath);
+        if (interned != null) {
+            return interned;
+        }
+        validate(subPath);
+        return appendSegments(subPath);
     }
 
     @NotNull
     public List<String> getSegments() {
-        return segments;
+        List<String> result = segments;
+        if (result == null) {
+            String[] array = new String[depth];
+            for (I18nPath p = this; p.parent != null; p = p.parent) {
+                array[p.depth - 1] = p.segment;
+            }
+            result = List.of(array);
+            segments = result;
+        }
+        return result;
     }
 
     @NotNull
     public String getLastSegment() {
-        if (segments.isEmpty()) {
+        if (isRoot()) {
             throw new IllegalStateException("Empty path");
         }
-        return segments.get(segments.size() - 1);
+        return segment;
     }
 
     @NotNull
@@ -149,20 +207,23 @@ public final class I18nPath {
         if (subPath.isRoot()) {
             return this;
         }
-        List<String> newPath = new ArrayList<>();
-        newPath.addAll(segments);
-        newPath.addAll(subPath.segments);
-        return new I18nPath(newPath);
+        if (isRoot()) {
+            return subPath;
+        }
+        I18nPath interned = lookup(path + SEPARATOR + subPath.path);
+        if (interned != null) {
+            return interned;
+        }
+        I18nPath result = this;
+        for (String subPathSegment : subPath.getSegments()) {
+            result = result.internChild(subPathSegment);
+        }
+        return result;
     }
 
     @NotNull
     public I18nPath parentOrRoot() {
-        if (segments.isEmpty()) {
-            return ROOT;
-        }
-        List<String> parentSegments = new ArrayList<>(segments);
-        parentSegments.remove(parentSegments.size() - 1);
-        return new I18nPath(parentSegments);
+        return parent != null ? parent : ROOT;
     }
 
     @NotNull
@@ -170,17 +231,54 @@ public final class I18nPath {
         return path;
     }
 
+    // expects validated path
+    private I18nPath appendSegments(String subPath) {
+        I18nPath result = this;
+        int start = 0;
+        int end;
+        while ((end = subPath.indexOf(SEPARATOR, start)) >= 0) {
+            result = result.internChild(subPath.substring(start, end));
+            start = end + 1;
+        }
+        return result.internChild(subPath.substring(start));
+    }
+
+    // expects validated, non-empty segment
+    private I18nPath internChild(String segment) {
+        String childPath = isRoot() ? segment : path + SEPARATOR + segment;
+        I18nPath interned = lookup(childPath);
+        if (interned != null) {
+            return interned;
+        }
+        expungeCollected();
+        I18nPath created = new I18nPath(this, segment, childPath);
+        InternedPath reference = new InternedPath(created, COLLECTED);
+        while (true) {
+            InternedPath previous = INTERNED.putIfAbsent(childPath, reference);
+            if (previous == null) {
+                return created;
+            }
+            I18nPath existing = previous.get();
+            if (existing != null) {
+                return existing;
+            }
+            if (INTERNED.replace(childPath, previous, reference)) {
+                return created;
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         I18nPath i18nPath = (I18nPath) o;
-        return Objects.equals(path, i18nPath.path);
+        return hash == i18nPath.hash && path.equals(i18nPath.path);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(path);
+        return hash;
     }
 
     public String toShortString() {
@@ -191,4 +289,13 @@ public final class I18nPath {
     public String toString() {
         return toShortString();
     }
+
+    private static final class InternedPath extends WeakReference<I18nPath> {
+        private final String path;
+
+        InternedPath(I18nPath referent, ReferenceQueue<I18nPath> queue) {
+            super(referent, queue);
+            this.path = referent.path;
+        }
+    }
 }
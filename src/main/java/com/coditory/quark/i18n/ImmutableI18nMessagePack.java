@@ -3,38 +3,93 @@ package com.coditory.quark.i18n;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 
+import static com.coditory.quark.i18n.Preconditions.expectNonBlank;
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
 final class ImmutableI18nMessagePack implements I18nMessagePack {
+    static final int MAX_LOCALIZED_VIEWS = 64;
+    private static final int MAX_PREFIXED_VIEWS = 128;
+
     private final Map<I18nKey, MessageTemplate> templates;
     private final MessageTemplateParser parser;
     private final I18nMissingMessageHandler unresolvedMessageHandler;
     private final I18nKeyGenerator keyGenerator;
+    private final I18nMessageIndex index;
+    private final RenderedMessageCache renderedMessageCache;
+    private final FormatTemplateCache formatTemplateCache;
+    // localized views of this pack
+    private final ConcurrentCache<Locale, I18nMessages> localizedViews = new ConcurrentCache<>(MAX_LOCALIZED_VIEWS);
+    // prefixed views keyed by resolved query prefixes, shared by all views of the same pack
+    private final ConcurrentCache<List<I18nPath>, ImmutableI18nMessagePack> prefixedViews;
 
     ImmutableI18nMessagePack(
             Map<I18nKey, MessageTemplate> templates,
             MessageTemplateParser parser,
             I18nMissingMessageHandler unresolvedMessageHandler,
-            I18nKeyGenerator keyGenerator
+            I18nKeyGenerator keyGenerator,
+            @Nullable RenderedMessageCache renderedMessageCache,
+            @Nullable FormatTemplateCache formatTemplateCache
+    ) {
+        this(Map.copyOf(expectNonNull(templates, "templates")), parser, unresolvedMessageHandler, keyGenerator, null,
+                renderedMessageCache, formatTemplateCache, new ConcurrentCache<>(MAX_PREFIXED_VIEWS));
+    }
+
+    // Templates are not copied, so the message pack sees messages added to the map later on.
+    // Only messages of locales that were not queried yet may be added to the map.
+    static ImmutableI18nMessagePack withGrowingTemplates(
+            Map<I18nKey, MessageTemplate> templates,
+            MessageTemplateParser parser,
+            I18nMissingMessageHandler unresolvedMessageHandler,
+            I18nKeyGenerator keyGenerator,
+            @Nullable RenderedMessageCache renderedMessageCache,
+            @Nullable FormatTemplateCache formatTemplateCache
     ) {
         expectNonNull(templates, "templates");
-        this.templates = Map.copyOf(templates);
+        return new ImmutableI18nMessagePack(templates, parser, unresolvedMessageHandler, keyGenerator, null,
+                renderedMessageCache, formatTemplateCache, new ConcurrentCache<>(MAX_PREFIXED_VIEWS));
+    }
+
+    private ImmutableI18nMessagePack(
+            Map<I18nKey, MessageTemplate> templates,
+            MessageTemplateParser parser,
+            I18nMissingMessageHandler unresolvedMessageHandler,
+            I18nKeyGenerator keyGenerator,
+            @Nullable I18nMessageIndex index,
+            @Nullable RenderedMessageCache renderedMessageCache,
+            @Nullable FormatTemplateCache formatTemplateCache,
+            ConcurrentCache<List<I18nPath>, ImmutableI18nMessagePack> prefixedViews
+    ) {
+        this.templates = templates;
         this.parser = expectNonNull(parser, "parser");
         this.unresolvedMessageHandler = expectNonNull(unresolvedMessageHandler, "unresolvedMessageHandler");
         this.keyGenerator = expectNonNull(keyGenerator, "keyGenerator");
+        this.index = index != null
+                ? index
+                : I18nMessageIndex.of(this.templates, keyGenerator);
+        this.renderedMessageCache = renderedMessageCache;
+        this.formatTemplateCache = formatTemplateCache;
+        this.prefixedViews = prefixedViews;
     }
 
     @NotNull
     @Override
     public I18nMessages localize(@NotNull Locale locale) {
         expectNonNull(locale, "locale");
-        return new I18nMessages(this, locale);
+        return localizedViews.computeIfAbsent(locale, l -> new I18nMessages(this, l));
+    }
+
+    // Message pack that shares templates, message index and caches with this one.
+    // Used when messages of a new locale are added, as they may be referenced only by the new parser.
+    ImmutableI18nMessagePack withParser(MessageTemplateParser parser) {
+        expectNonNull(parser, "parser");
+        return new ImmutableI18nMessagePack(templates, parser, unresolvedMessageHandler, keyGenerator, index,
+                renderedMessageCache, formatTemplateCache, new ConcurrentCache<>(MAX_PREFIXED_VIEWS));
     }
 
     @NotNull
@@ -42,10 +97,21 @@ final class ImmutableI18nMessagePack implements I18nMessagePack {
     public String getMessage(@NotNull I18nKey key, Object... args) {
         expectNonNull(key, "key");
         expectNonNull(args, "args");
-        String result = getMessageOrNull(key, args);
-        return result == null
-                ? unresolvedMessageHandler.onUnresolvedMessage(key, keyGenerator.keys(key), args)
-                : result;
+        I18nMessage message = index.get(key);
+        return message != null
+                ? resolve(message, args)
+                : onMissingMessage(key, args);
+    }
+
+    @NotNull
+    @Override
+    public String getMessageForCount(@NotNull I18nKey key, long arg0) {
+        expectNonNull(key, "key");
+        I18nMessage message = index.get(key);
+        // missing message handler operates on boxed arguments
+        return message != null
+                ? resolve(message, arg0)
+                : onMissingMessage(key, new Object[]{arg0});
     }
 
     @NotNull
@@ -53,10 +119,10 @@ final class ImmutableI18nMessagePack implements I18nMessagePack {
     public String getMessage(@NotNull I18nKey key, @NotNull Map<String, Object> args) {
         expectNonNull(key, "key");
         expectNonNull(args, "args");
-        String result = getMessageOrNull(key, args);
-        return result == null
-                ? unresolvedMessageHandler.onUnresolvedMessageWithNamedArguments(key, keyGenerator.keys(key), args)
-                : result;
+        I18nMessage message = index.get(key);
+        return message != null
+                ? resolve(message, args)
+                : onMissingMessage(key, args);
     }
 
     @Override
@@ -64,9 +130,10 @@ final class ImmutableI18nMessagePack implements I18nMessagePack {
     public String getMessageOrNull(@NotNull I18nKey key, Object... args) {
         expectNonNull(key, "key");
         expectNonNull(args, "args");
-        return getOptionalTemplate(key)
-                .map(message -> message.resolve(args))
-                .orElse(null);
+        I18nMessage message = index.get(key);
+        return message != null
+                ? resolve(message, args)
+                : null;
     }
 
     @Override
@@ -74,54 +141,209 @@ final class ImmutableI18nMessagePack implements I18nMessagePack {
     public String getMessageOrNull(@NotNull I18nKey key, @NotNull Map<String, Object> args) {
         expectNonNull(key, "key");
         expectNonNull(args, "args");
-        return getOptionalTemplate(key)
-                .map(message -> message.resolve(args))
-                .orElse(null);
+        I18nMessage message = index.get(key);
+        return message != null
+                ? resolve(message, args)
+                : null;
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, Object... args) {
+        expectNonNull(out, "out");
+        expectNonNull(key, "key");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(key);
+        if (message == null) {
+            Appendables.append(out, onMissingMessage(key, args));
+        } else if (renderedMessageCache != null) {
+            Appendables.append(out, renderedMessageCache.resolve(message, args));
+        } else {
+            message.appendMessage(out, args);
+        }
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
+        expectNonNull(key, "key");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(key);
+        if (message == null) {
+            Appendables.append(out, onMissingMessage(key, args));
+        } else if (renderedMessageCache != null) {
+            Appendables.append(out, renderedMessageCache.resolve(message, args));
+        } else {
+            message.appendMessage(out, args);
+        }
+    }
+
+    @NotNull
+    @Override
+    public String getMessage(@NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(locale, path);
+        return message != null
+                ? resolve(message, args)
+                : onMissingMessage(I18nKey.of(locale, path), args);
+    }
+
+    @NotNull
+    @Override
+    public String getMessage(@NotNull Locale locale, @NotNull String path, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(locale, path);
+        return message != null
+                ? resolve(message, args)
+                : onMissingMessage(I18nKey.of(locale, path), args);
+    }
+
+    @NotNull
+    @Override
+    public String getMessageForCount(@NotNull Locale locale, @NotNull String path, long arg0) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        I18nMessage message = index.get(locale, path);
+        // missing message handler operates on boxed arguments
+        return message != null
+                ? resolve(message, arg0)
+                : onMissingMessage(I18nKey.of(locale, path), new Object[]{arg0});
+    }
+
+    @Nullable
+    @Override
+    public String getMessageOrNull(@NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(locale, path);
+        return message != null
+                ? resolve(message, args)
+                : null;
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(out, "out");
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(locale, path);
+        if (message == null) {
+            Appendables.append(out, onMissingMessage(I18nKey.of(locale, path), args));
+        } else if (renderedMessageCache != null) {
+            Appendables.append(out, renderedMessageCache.resolve(message, args));
+        } else {
+            message.appendMessage(out, args);
+        }
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
+        expectNonNull(locale, "locale");
+        expectNonBlank(path, "path");
+        expectNonNull(args, "args");
+        I18nMessage message = index.get(locale, path);
+        if (message == null) {
+            Appendables.append(out, onMissingMessage(I18nKey.of(locale, path), args));
+        } else if (renderedMessageCache != null) {
+            Appendables.append(out, renderedMessageCache.resolve(message, args));
+        } else {
+            message.appendMessage(out, args);
+        }
+    }
+
+    private String resolve(I18nMessage message, long arg0) {
+        // rendered message cache operates on boxed arguments
+        return renderedMessageCache != null
+                ? renderedMessageCache.resolve(message, new Object[]{arg0})
+                : message.resolve(arg0);
+    }
+
+    private String onMissingMessage(I18nKey key, Object[] args) {
+        return unresolvedMessageHandler.onUnresolvedMessage(key, index.getCheckedKeys(key), args);
+    }
+
+    private String onMissingMessage(I18nKey key, Map<String, Object> args) {
+        return unresolvedMessageHandler.onUnresolvedMessageWithNamedArguments(key, index.getCheckedKeys(key), args);
+    }
+
+    private String resolve(I18nMessage message, Object[] args) {
+        return renderedMessageCache != null
+                ? renderedMessageCache.resolve(message, args)
+                : message.resolve(args);
+    }
+
+    private String resolve(I18nMessage message, Map<String, Object> args) {
+        return renderedMessageCache != null
+                ? renderedMessageCache.resolve(message, args)
+                : message.resolve(args);
     }
 
     @Override
     @NotNull
     public I18nMessage getTemplate(@NotNull I18nKey key) {
-        return getOptionalTemplate(key).orElse(null);
+        expectNonNull(key, "key");
+        return index.get(key);
     }
 
     @Override
     @Nullable
     public I18nMessage getTemplateOrNull(@NotNull I18nKey key) {
-        return getOptionalTemplate(key).orElse(null);
+        expectNonNull(key, "key");
+        return index.get(key);
     }
 
-    private Optional<I18nMessage> getOptionalTemplate(I18nKey key) {
-        return keyGenerator.keys(key).stream()
-                .filter(templates::containsKey)
-                .map(matched -> new I18nMessage(key.locale(), matched, templates.get(matched)))
-                .findFirst();
+    @NotNull
+    @Override
+    public String format(@NotNull Locale locale, @NotNull String template, Object... args) {
+        expectNonNull(template, "template");
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        appendFormatted(out, locale, template, args);
+        return out.toString();
     }
 
     @NotNull
     @Override
-    public String format(@NotNull Locale locale, @NotNull String template, Object... args) {
+    public String format(@NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        expectNonNull(template, "template");
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        appendFormatted(out, locale, template, args);
+        return out.toString();
+    }
+
+    @Override
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, Object... args) {
+        expectNonNull(out, "out");
         expectNonNull(locale, "locale");
         expectNonNull(template, "template");
         expectNonNull(args, "args");
         try {
-            return parser.parseTemplate(locale, template)
-                    .resolve(locale, args);
+            getFormatTemplate(locale, template)
+                    .format(locale, args, out);
+        } catch (UncheckedIOException e) {
+            throw e;
         } catch (Throwable e) {
             throw new IllegalArgumentException("Could not format message " + template
                     + "\" with indexed arguments " + Arrays.toString(args) + " and locale: " + locale, e);
         }
     }
 
-    @NotNull
     @Override
-    public String format(@NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        expectNonNull(out, "out");
         expectNonNull(locale, "locale");
         expectNonNull(template, "template");
         expectNonNull(args, "args");
         try {
-            return parser.parseTemplate(locale, template)
-                    .resolve(locale, args);
+            getFormatTemplate(locale, template)
+                    .format(locale, args, out);
+        } catch (UncheckedIOException e) {
+            throw e;
         } catch (Throwable e) {
             throw new IllegalArgumentException("Could not format message "
                     + template
@@ -129,18 +351,54 @@ final class ImmutableI18nMessagePack implements I18nMessagePack {
         }
     }
 
+    private MessageTemplate getFormatTemplate(Locale locale, String template) {
+        return formatTemplateCache != null
+                ? formatTemplateCache.getTemplate(parser, locale, template)
+                : parser.parseTemplate(locale, template);
+    }
+
+    @Override
+    @Nullable
+    public I18nCacheStats getRenderedMessageCacheStats() {
+        return renderedMessageCache != null
+                ? renderedMessageCache.stats()
+                : null;
+    }
+
+    @Override
+    @NotNull
+    public I18nMissingMessageStats getMissingMessageStats() {
+        return index.missingMessageStats();
+    }
+
+    @Override
+    @Nullable
+    public I18nCacheStats getFormatTemplateCacheStats() {
+        return formatTemplateCache != null
+                ? formatTemplateCache.stats()
+                : null;
+    }
+
     @Override
     public @NotNull I18nMessagePack prefixQueries(@NotNull I18nPath prefix) {
         expectNonNull(prefix, "prefix");
-        I18nKeyGenerator updated = keyGenerator.prefixQueries(prefix);
-        return new ImmutableI18nMessagePack(templates, parser, unresolvedMessageHandler, updated);
+        return prefixedView(keyGenerator.prefixedWith(prefix));
     }
 
     @Override
     @NotNull
     public I18nMessagePack withQueryPrefixes(@NotNull List<I18nPath> prefixes) {
         expectNonNull(prefixes, "prefixes");
-        I18nKeyGenerator updated = keyGenerator.withPrefixes(prefixes);
-        return new ImmutableI18nMessagePack(templates, parser, unresolvedMessageHandler, updated);
+        return prefixedView(I18nKeyGenerator.normalizePrefixes(prefixes));
+    }
+
+    // views are memoized, so their lazy message index is built once and not per query
+    private ImmutableI18nMessagePack prefixedView(List<I18nPath> prefixes) {
+        if (prefixes.equals(keyGenerator.getDefaultPrefixes())) {
+            return this;
+        }
+        return prefixedViews.computeIfAbsent(prefixes, p -> new ImmutableI18nMessagePack(
+                templates, parser, unresolvedMessageHandler, keyGenerator.withPrefixes(p), null,
+                renderedMessageCache, formatTemplateCache, prefixedViews));
     }
 }
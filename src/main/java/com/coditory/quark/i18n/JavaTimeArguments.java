@@ -0,0 +1,115 @@
+package com.coditory.quark.i18n;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+// Conversions of java.time arguments formatted as dates.
+// Values with a zone (ZonedDateTime, OffsetDateTime) are formatted in their own zone,
+// other values (Instant, LocalDateTime, LocalDate) in the zone configured for the messages.
+final class JavaTimeArguments {
+    private JavaTimeArguments() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    static boolean isJavaTime(Object value) {
+        return value instanceof Instant
+                || value instanceof ZonedDateTime
+                || value instanceof OffsetDateTime
+                || value instanceof LocalDateTime
+                || value instanceof LocalDate;
+    }
+
+    static ZoneId zoneOf(Object value, ZoneId defaultZoneId) {
+        return switch (value) {
+            case ZonedDateTime dateTime -> dateTime.getZone();
+            case OffsetDateTime dateTime -> dateTime.getOffset();
+            default -> defaultZoneId;
+        };
+    }
+
+    static long toEpochMilli(Object value, ZoneId zoneId) {
+        return switch (value) {
+            case Instant instant -> instant.toEpochMilli();
+            case ZonedDateTime dateTime -> toEpochMilli(dateTime.toEpochSecond(), dateTime.getNano());
+            case OffsetDateTime dateTime -> toEpochMilli(dateTime.toEpochSecond(), dateTime.getNano());
+            case LocalDateTime dateTime -> {
+                ZoneOffset offset = zoneId.getRules().getOffset(dateTime);
+                yield toEpochMilli(dateTime.toEpochSecond(offset), dateTime.getNano());
+            }
+            case LocalDate date -> date.atStartOfDay(zoneId).toEpochSecond() * 1000;
+            default -> throw new IllegalArgumentException("Unsupported java.time value: " + value);
+        };
+    }
+
+    private static long toEpochMilli(long epochSecond, int nano) {
+        return epochSecond * 1000 + nano / 1_000_000;
+    }
+
+    // converts zone-less values to zoned date times, so they are formatted in the given zone
+    static Object[] atZone(Object[] args, ZoneId zoneId) {
+        Object[] result = args;
+        for (int i = 0; i < args.length; ++i) {
+            Object value = atZone(args[i], zoneId);
+            if (value != args[i]) {
+                if (result == args) {
+                    result = args.clone();
+                }
+                result[i] = value;
+            }
+        }
+        return result;
+    }
+
+    static Map<String, Object> atZone(Map<String, Object> args, ZoneId zoneId) {
+        if (args.values().stream().noneMatch(JavaTimeArguments::isJavaTime)) {
+            return args;
+        }
+        Map<String, Object> result = new HashMap<>(args);
+        result.replaceAll((name, value) -> atZone(value, zoneId));
+        return result;
+    }
+
+    private static Object atZone(Object value, ZoneId zoneId) {
+        return switch (value) {
+            case Instant instant -> instant.atZone(zoneId);
+            case LocalDateTime dateTime -> dateTime.atZone(zoneId);
+            case LocalDate date -> date.atStartOfDay(zoneId);
+            case null, default -> value;
+        };
+    }
+
+    // ICU MessageFormat formats only legacy dates, used when message is not formatted with compiled program
+    static Object[] toLegacyDates(Object[] args, ZoneId zoneId) {
+        Object[] result = args;
+        for (int i = 0; i < args.length; ++i) {
+            if (isJavaTime(args[i])) {
+                if (result == args) {
+                    result = args.clone();
+                }
+                result[i] = toLegacyDate(args[i], zoneId);
+            }
+        }
+        return result;
+    }
+
+    static Map<String, Object> toLegacyDates(Map<String, Object> args, ZoneId zoneId) {
+        if (args.values().stream().noneMatch(JavaTimeArguments::isJavaTime)) {
+            return args;
+        }
+        Map<String, Object> result = new HashMap<>(args);
+        result.replaceAll((name, value) -> isJavaTime(value) ? toLegacyDate(value, zoneId) : value);
+        return result;
+    }
+
+    private static Date toLegacyDate(Object value, ZoneId zoneId) {
+        return new Date(toEpochMilli(value, zoneOf(value, zoneId)));
+    }
+}
@@ -0,0 +1,201 @@
+package com.coditory.quark.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Message pack that compiles messages of a locale on the first query for the locale
+final class LazyI18nMessagePack implements I18nMessagePack {
+    private final LazyLocaleLoader loader;
+    private final @Nullable UnaryOperator<I18nMessagePack> queryPrefixes;
+    // views delegate to this pack, so they stay valid when more locales are compiled
+    private final ConcurrentCache<Locale, I18nMessages> localizedViews = new ConcurrentCache<>(ImmutableI18nMessagePack.MAX_LOCALIZED_VIEWS);
+    private volatile PrefixedMessagePack prefixed;
+
+    LazyI18nMessagePack(LazyLocaleLoader loader) {
+        this(loader, null);
+    }
+
+    private LazyI18nMessagePack(LazyLocaleLoader loader, @Nullable UnaryOperator<I18nMessagePack> queryPrefixes) {
+        this.loader = expectNonNull(loader, "loader");
+        this.queryPrefixes = queryPrefixes;
+    }
+
+    private I18nMessagePack messagePack(Locale locale) {
+        return withQueryPrefixes(loader.messagePack(locale));
+    }
+
+    // prefixed message pack is created once per compiled message pack
+    private I18nMessagePack withQueryPrefixes(I18nMessagePack messagePack) {
+        if (queryPrefixes == null) {
+            return messagePack;
+        }
+        PrefixedMessagePack current = prefixed;
+        if (current == null || current.source() != messagePack) {
+            current = new PrefixedMessagePack(messagePack, queryPrefixes.apply(messagePack));
+            prefixed = current;
+        }
+        return current.result();
+    }
+
+    private record PrefixedMessagePack(I18nMessagePack source, I18nMessagePack result) {
+    }
+
+    @Override
+    public @NotNull I18nMessage getTemplate(@NotNull I18nKey key) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getTemplate(key);
+    }
+
+    @Override
+    public @Nullable I18nMessage getTemplateOrNull(@NotNull I18nKey key) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getTemplateOrNull(key);
+    }
+
+    @Override
+    public @NotNull I18nMessages localize(@NotNull Locale locale) {
+        expectNonNull(locale, "locale");
+        messagePack(locale);
+        return localizedViews.computeIfAbsent(locale, l -> new I18nMessages(this, l));
+    }
+
+    @Override
+    public @NotNull I18nMessagePack prefixQueries(@NotNull I18nPath prefix) {
+        expectNonNull(prefix, "prefix");
+        UnaryOperator<I18nMessagePack> parent = queryPrefixes;
+        return new LazyI18nMessagePack(loader, parent == null
+                ? messagePack -> messagePack.prefixQueries(prefix)
+                : messagePack -> parent.apply(messagePack).prefixQueries(prefix));
+    }
+
+    @Override
+    public @NotNull I18nMessagePack withQueryPrefixes(@NotNull List<I18nPath> prefixes) {
+        expectNonNull(prefixes, "prefixes");
+        List<I18nPath> copy = List.copyOf(prefixes);
+        return new LazyI18nMessagePack(loader, messagePack -> messagePack.withQueryPrefixes(copy));
+    }
+
+    @Override
+    public @NotNull String getMessage(@NotNull I18nKey key, Object... args) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getMessage(key, args);
+    }
+
+    @Override
+    public @NotNull String getMessageForCount(@NotNull I18nKey key, long arg0) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getMessageForCount(key, arg0);
+    }
+
+    @Override
+    public @NotNull String getMessage(@NotNull I18nKey key, Map<String, Object> args) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getMessage(key, args);
+    }
+
+    @Override
+    public @Nullable String getMessageOrNull(@NotNull I18nKey key, Object... args) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getMessageOrNull(key, args);
+    }
+
+    @Override
+    public @Nullable String getMessageOrNull(@NotNull I18nKey key, Map<String, Object> args) {
+        expectNonNull(key, "key");
+        return messagePack(key.locale()).getMessageOrNull(key, args);
+    }
+
+    @Override
+    public @NotNull String getMessage(@NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).getMessage(locale, path, args);
+    }
+
+    @Override
+    public @NotNull String getMessage(@NotNull Locale locale, @NotNull String path, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).getMessage(locale, path, args);
+    }
+
+    @Override
+    public @NotNull String getMessageForCount(@NotNull Locale locale, @NotNull String path, long arg0) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).getMessageForCount(locale, path, arg0);
+    }
+
+    @Override
+    public @Nullable String getMessageOrNull(@NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).getMessageOrNull(locale, path, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, Object... args) {
+        expectNonNull(locale, "locale");
+        messagePack(locale).appendMessage(out, locale, path, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String path, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        messagePack(locale).appendMessage(out, locale, path, args);
+    }
+
+    @Override
+    public @NotNull String format(@NotNull Locale locale, @NotNull String template, Object... args) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).format(locale, template, args);
+    }
+
+    @Override
+    public @NotNull String format(@NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        return messagePack(locale).format(locale, template, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, Object... args) {
+        expectNonNull(key, "key");
+        messagePack(key.locale()).appendMessage(out, key, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, @NotNull Map<String, Object> args) {
+        expectNonNull(key, "key");
+        messagePack(key.locale()).appendMessage(out, key, args);
+    }
+
+    @Override
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, Object... args) {
+        expectNonNull(locale, "locale");
+        messagePack(locale).appendFormatted(out, locale, template, args);
+    }
+
+    @Override
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        expectNonNull(locale, "locale");
+        messagePack(locale).appendFormatted(out, locale, template, args);
+    }
+
+    @Override
+    public @Nullable I18nCacheStats getRenderedMessageCacheStats() {
+        return loader.messagePack().getRenderedMessageCacheStats();
+    }
+
+    @Override
+    public @Nullable I18nMissingMessageStats getMissingMessageStats() {
+        return loader.messagePack().getMissingMessageStats();
+    }
+
+    @Override
+    public @Nullable I18nCacheStats getFormatTemplateCacheStats() {
+        return loader.messagePack().getFormatTemplateCacheStats();
+    }
+}
@@ -0,0 +1,165 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nLazyMessageBundle;
+import com.coditory.quark.i18n.loader.I18nMessageBundle;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Loads and compiles messages of a locale on the first query for the locale.
+// Messages of the locale hierarchy and the default locale hierarchy are compiled together,
+// so references and fallbacks are resolved the same way as in an eagerly built message pack.
+// Templates of a compiled locale are added to the templates of already compiled locales,
+// so the message index and caches are kept between compilations.
+final class LazyLocaleLoader {
+    private final List<I18nLazyMessageBundle> bundles;
+    private final I18nMessageBundle[] loadedBundles;
+    private final List<PrecompiledMessagePack.Entry> precompiled;
+    private final @Nullable I18nMessageBundle precompiledBundle;
+    private final Set<Locale> availableLocales;
+    private final LocaleResolver localeResolver;
+    private final List<Locale> defaultLocales;
+    private final Compiler compiler;
+    private final Map<I18nKey, MessageTemplate> templates = new ConcurrentHashMap<>();
+    private volatile ImmutableI18nMessagePack messagePack;
+    private volatile Set<Locale> compiledLocales = Set.of();
+
+    LazyLocaleLoader(
+            List<I18nLazyMessageBundle> bundles,
+            List<PrecompiledMessagePack.Entry> precompiled,
+            @Nullable Locale defaultLocale,
+            Compiler compiler
+    ) {
+        expectNonNull(bundles, "bundles");
+        expectNonNull(precompiled, "precompiled");
+        this.compiler = expectNonNull(compiler, "compiler");
+        this.bundles = List.copyOf(bundles);
+        this.precompiled = List.copyOf(precompiled);
+        this.loadedBundles = new I18nMessageBundle[bundles.size()];
+        Set<Locale> locales = new HashSet<>();
+        for (int i = 0; i < bundles.size(); ++i) {
+            I18nLazyMessageBundle bundle = bundles.get(i);
+            if (bundle.locale() == null) {
+                loadedBundles[i] = TemplatesBundlePrefixes.prefix(bundle.load());
+                loadedBundles[i].templates().keySet().forEach(key -> locales.add(key.locale()));
+            } else {
+                locales.add(bundle.locale());
+            }
+        }
+        Map<I18nKey, String> precompiledTemplates = new LinkedHashMap<>();
+        for (PrecompiledMessagePack.Entry entry : precompiled) {
+            precompiledTemplates.put(entry.key(), entry.template());
+            locales.add(entry.key().locale());
+        }
+        this.precompiledBundle = precompiled.isEmpty() ? null : new I18nMessageBundle(precompiledTemplates);
+        this.localeResolver = LocaleResolver.of(defaultLocale, locales);
+        this.availableLocales = localeResolver.getAvailableLocales();
+        this.defaultLocales = defaultLocale != null
+                ? localeResolver.getLocaleHierarchy(defaultLocale)
+                : List.of();
+        MessageTemplateParser parser = compiler.parser(loadedBundles(), localeResolver);
+        this.messagePack = compiler.messagePack(templates, parser, localeResolver);
+    }
+
+    I18nMessagePack messagePack() {
+        return messagePack;
+    }
+
+    I18nMessagePack messagePack(Locale locale) {
+        expectNonNull(locale, "locale");
+        return isCompiled(locale)
+                ? messagePack
+                : compile(locale);
+    }
+
+    private boolean isCompiled(Locale locale) {
+        Set<Locale> compiled = compiledLocales;
+        for (Locale candidate : localeResolver.getLocaleHierarchy(locale)) {
+            if (availableLocales.contains(candidate) && !compiled.contains(candidate)) {
+                return false;
+            }
+        }
+        for (Locale candidate : defaultLocales) {
+            if (availableLocales.contains(candidate) && !compiled.contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized I18nMessagePack compile(Locale locale) {
+        if (isCompiled(locale)) {
+            return messagePack;
+        }
+        Set<Locale> locales = new LinkedHashSet<>(localeResolver.getLocaleHierarchy(locale));
+        locales.addAll(defaultLocales);
+        locales.retainAll(availableLocales);
+        locales.removeAll(compiledLocales);
+        for (int i = 0; i < bundles.size(); ++i) {
+            if (loadedBundles[i] == null && locales.contains(bundles.get(i).locale())) {
+                loadedBundles[i] = TemplatesBundlePrefixes.prefix(bundles.get(i).load());
+            }
+        }
+        MessageTemplateParser parser = compiler.parser(loadedBundles(), localeResolver);
+        Map<I18nKey, MessageTemplate> compiled = new HashMap<>();
+        // precompiled messages are overridden by all other messages
+        for (PrecompiledMessagePack.Entry entry : precompiled) {
+            if (locales.contains(entry.key().locale())) {
+                compiled.put(entry.key(), parser.parsePrecompiledTemplate(entry));
+            }
+        }
+        Map<I18nKey, String> entries = new HashMap<>();
+        for (I18nMessageBundle bundle : loadedBundles) {
+            if (bundle == null) {
+                continue;
+            }
+            for (Map.Entry<I18nKey, String> entry : bundle.templates().entrySet()) {
+                if (locales.contains(entry.getKey().locale())) {
+                    entries.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (Map.Entry<I18nKey, String> entry : entries.entrySet()) {
+            compiled.put(entry.getKey(), parser.parseTemplate(entry.getKey(), entry.getValue()));
+        }
+        // keys of the compiled locales are not queried yet, so they can be added to the shared templates
+        templates.putAll(compiled);
+        Set<Locale> updatedLocales = new HashSet<>(compiledLocales);
+        updatedLocales.addAll(locales);
+        ImmutableI18nMessagePack result = messagePack.withParser(parser);
+        this.messagePack = result;
+        this.compiledLocales = Set.copyOf(updatedLocales);
+        return result;
+    }
+
+    private List<I18nMessageBundle> loadedBundles() {
+        List<I18nMessageBundle> result = new ArrayList<>(loadedBundles.length + 1);
+        if (precompiledBundle != null) {
+            result.add(precompiledBundle);
+        }
+        for (I18nMessageBundle bundle : loadedBundles) {
+            if (bundle != null) {
+                result.add(bundle);
+            }
+        }
+        return result;
+    }
+
+    interface Compiler {
+        MessageTemplateParser parser(List<I18nMessageBundle> bundles, LocaleResolver localeResolver);
+
+        // templates are filled in as locales get compiled
+        ImmutableI18nMessagePack messagePack(Map<I18nKey, MessageTemplate> templates, MessageTemplateParser parser, LocaleResolver localeResolver);
+    }
+}
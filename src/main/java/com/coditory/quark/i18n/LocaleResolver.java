@@ -4,12 +4,14 @@ import com.coditory.quark.i18n.loader.I18nMessageBundle;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toSet;
 
 final class LocaleResolver {
@@ -22,16 +24,21 @@ final class LocaleResolver {
         return new LocaleResolver(defaultLocale, availableLocales);
     }
 
-    private final LruCache<Locale, Locale> cache;
-    private final LruCache<Locale, List<Locale>> hierarchyCache;
+    static LocaleResolver of(Locale defaultLocale, Set<Locale> availableLocales) {
+        expectNonNull(availableLocales, "availableLocales");
+        return new LocaleResolver(defaultLocale, availableLocales);
+    }
+
+    private final ConcurrentCache<Locale, Locale> cache;
+    private final ConcurrentCache<Locale, List<Locale>> hierarchyCache;
     private final Locale defaultLocale;
     private final Set<Locale> availableLocales;
 
     private LocaleResolver(Locale defaultLocale, Set<Locale> availableLocales) {
         this.defaultLocale = defaultLocale;
         this.availableLocales = Set.copyOf(availableLocales);
-        this.cache = new LruCache<>(availableLocales.size() * 10 + 1);
-        this.hierarchyCache = new LruCache<>(availableLocales.size() * 10 + 1);
+        this.cache = new ConcurrentCache<>(availableLocales.size() * 10 + 1);
+        this.hierarchyCache = new ConcurrentCache<>(availableLocales.size() * 10 + 1);
     }
 
     I18nKey resolveQueryLocale(I18nKey key) {
@@ -52,6 +59,15 @@ final class LocaleResolver {
         return hierarchyCache.computeIfAbsent(locale, this::resolveHierarchyOnCacheMiss);
     }
 
+    Set<Locale> getAvailableLocales() {
+        if (defaultLocale == null || availableLocales.contains(defaultLocale)) {
+            return availableLocales;
+        }
+        Set<Locale> result = new HashSet<>(availableLocales);
+        result.add(defaultLocale);
+        return unmodifiableSet(result);
+    }
+
     private Locale resolveOnCacheMiss(Locale locale) {
         return getLocaleHierarchy(locale).stream()
                 .filter(this::isValid)
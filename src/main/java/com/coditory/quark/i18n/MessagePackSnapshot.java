@@ -0,0 +1,87 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nMessageBundle;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// State of a reloadable message pack build used to recompile only messages affected by a change.
+// Loaders pass unchanged bundles as the same instances, so they are compared by identity.
+record MessagePackSnapshot(
+        List<I18nMessageBundle> bundles,
+        List<I18nMessageBundle> prefixedBundles,
+        List<PrecompiledMessagePack.Entry> precompiled,
+        Map<I18nKey, Source> sources,
+        Map<I18nKey, MessageTemplate> templates,
+        ReferenceGraph referenceGraph,
+        Set<Locale> locales,
+        I18nMessagePack messagePack
+) {
+    MessagePackSnapshot {
+        expectNonNull(bundles, "bundles");
+        expectNonNull(prefixedBundles, "prefixedBundles");
+        expectNonNull(precompiled, "precompiled");
+        expectNonNull(sources, "sources");
+        expectNonNull(templates, "templates");
+        expectNonNull(referenceGraph, "referenceGraph");
+        expectNonNull(locales, "locales");
+        expectNonNull(messagePack, "messagePack");
+    }
+
+    // message template with everything that affects its compilation
+    record Source(String template, I18nPath bundlePrefix, @Nullable PrecompiledMessagePack.Entry precompiled) {
+    }
+
+    // precompiled messages are overridden by all other messages
+    static Map<I18nKey, Source> sources(List<I18nMessageBundle> prefixedBundles, List<PrecompiledMessagePack.Entry> precompiled) {
+        Map<I18nKey, Source> result = new HashMap<>();
+        for (PrecompiledMessagePack.Entry entry : precompiled) {
+            result.put(entry.key(), new Source(entry.template(), I18nPath.root(), entry));
+        }
+        for (I18nMessageBundle bundle : prefixedBundles) {
+            for (Map.Entry<I18nKey, String> entry : bundle.templates().entrySet()) {
+                result.put(entry.getKey(), new Source(entry.getValue(), bundle.prefix(), null));
+            }
+        }
+        return result;
+    }
+
+    List<I18nMessageBundle> prefix(List<I18nMessageBundle> bundles) {
+        expectNonNull(bundles, "bundles");
+        Map<I18nMessageBundle, I18nMessageBundle> prefixed = new IdentityHashMap<>();
+        for (int i = 0; i < this.bundles.size(); ++i) {
+            prefixed.put(this.bundles.get(i), prefixedBundles.get(i));
+        }
+        return bundles.stream()
+                .map(bundle -> {
+                    I18nMessageBundle result = prefixed.get(bundle);
+                    return result != null ? result : TemplatesBundlePrefixes.prefix(bundle);
+                })
+                .toList();
+    }
+
+    Set<I18nKey> changedKeys(Map<I18nKey, Source> sources) {
+        expectNonNull(sources, "sources");
+        Set<I18nKey> result = new HashSet<>();
+        for (Map.Entry<I18nKey, Source> entry : sources.entrySet()) {
+            if (!Objects.equals(this.sources.get(entry.getKey()), entry.getValue())) {
+                result.add(entry.getKey());
+            }
+        }
+        for (I18nKey key : this.sources.keySet()) {
+            if (!sources.containsKey(key)) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,786 @@
+package com.coditory.quark.i18n;
+
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.MessageFormat;
+import com.ibm.icu.text.MessagePattern;
+import com.ibm.icu.text.MessagePattern.ArgType;
+import com.ibm.icu.text.MessagePattern.Part;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.text.PluralRules;
+import com.ibm.icu.text.PluralRules.PluralType;
+import com.ibm.icu.util.Calendar;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+import java.text.FieldPosition;
+import java.text.Format;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Message template compiled for a single locale into an immutable list of instructions.
+// Produces the same output as ICU MessageFormat. Unsupported constructs are formatted with ICU.
+final class MessageProgram {
+    private static final Object MISSING = new Object();
+    // number formats shared between templates, bounded as templates passed to format(...) can be arbitrary
+    private static final ConcurrentCache<Locale, SubFormat> STOCK_NUMBER_FORMATS = new ConcurrentCache<>(1024);
+    private static final ConcurrentCache<String, SubFormat> SIMPLE_NUMBER_FORMATS = new ConcurrentCache<>(1024);
+    // date formats with explicit time zone used to format java.time values, shared between templates
+    private static final ConcurrentCache<String, ZonedDateFormat> ZONED_DATE_FORMATS = new ConcurrentCache<>(1024);
+    // currency formats used to format Money values, shared between templates
+    private static final ConcurrentCache<String, SubFormat> CURRENCY_FORMATS = new ConcurrentCache<>(1024);
+
+    static boolean isCompilable(MessagePattern pattern) {
+        expectNonNull(pattern, "pattern");
+        for (int i = 0; i < pattern.countParts(); ++i) {
+            Part part = pattern.getPart(i);
+            if (part.getType() != Part.Type.ARG_START) {
+                continue;
+            }
+            ArgType argType = part.getArgType();
+            if (argType == ArgType.CHOICE) {
+                return false;
+            }
+            if (argType.hasPluralStyle() && !isCompilablePlural(pattern, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCompilablePlural(MessagePattern pattern, int argStart) {
+        Part argPart = pattern.getPart(argStart + 1);
+        int offsetIndex = argStart + 2;
+        if (pattern.getPartType(offsetIndex).hasNumericValue()) {
+            double offset = pattern.getNumericValue(pattern.getPart(offsetIndex));
+            if (offset != Math.rint(offset)) {
+                return false;
+            }
+        }
+        // ICU selects plural form using the formatter of a nested argument with the same name
+        String argName = pattern.getSubstring(argPart);
+        int argLimit = pattern.getLimitPartIndex(argStart);
+        for (int i = argStart + 2; i < argLimit; ++i) {
+            Part part = pattern.getPart(i);
+            if (part.getType() == Part.Type.ARG_START
+                    && part.getArgType() == ArgType.SIMPLE
+                    && pattern.partSubstringMatches(pattern.getPart(i + 1), argName)
+                    && !isStockNumberFormat(pattern, i + 2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStockNumberFormat(MessagePattern pattern, int typeIndex) {
+        String type = pattern.getSubstring(pattern.getPart(typeIndex));
+        String style = pattern.getPartType(typeIndex + 1) == Part.Type.ARG_STYLE
+                ? pattern.getSubstring(pattern.getPart(typeIndex + 1)).trim().toLowerCase(Locale.ROOT)
+                : "";
+        return type.equals("number") && (style.isEmpty() || style.equals("integer"));
+    }
+
+    static MessageProgram compile(MessagePattern pattern, Locale locale) {
+        return compile(pattern, locale, true, null);
+    }
+
+    // java.time values are formatted natively unless disabled, zone-less values use given or default time zone
+    static MessageProgram compile(MessagePattern pattern, Locale locale, boolean formatJavaTime, ZoneId zoneId) {
+        expectNonNull(pattern, "pattern");
+        expectNonNull(locale, "locale");
+        if (!isCompilable(pattern)) {
+            throw new IllegalArgumentException("Message pattern is not compilable: " + pattern.getPatternString());
+        }
+        TimeZoneContext timeZone = formatJavaTime ? new TimeZoneContext(zoneId) : null;
+        Compiler compiler = new Compiler(pattern, locale, timeZone);
+        Instruction[] instructions = compiler.compileMessage(0);
+        return new MessageProgram(instructions, pattern.hasNamedArguments());
+    }
+
+    private final Instruction[] instructions;
+    private final boolean namedArguments;
+
+    private MessageProgram(Instruction[] instructions, boolean namedArguments) {
+        this.instructions = instructions;
+        this.namedArguments = namedArguments;
+    }
+
+    // returns false if arguments are not supported and message should be formatted with ICU
+    boolean format(Object[] args, StringBuilder out) {
+        expectNonNull(args, "args");
+        expectNonNull(out, "out");
+        // ICU rejects indexed arguments for templates with named arguments
+        return !namedArguments && appendAll(instructions, out, args, null, null);
+    }
+
+    // returns false if arguments are not supported and message should be formatted with ICU
+    boolean format(Map<String, Object> args, StringBuilder out) {
+        expectNonNull(args, "args");
+        expectNonNull(out, "out");
+        return appendAll(instructions, out, null, args, null);
+    }
+
+    // returns false if argument is not supported and message should be formatted with ICU
+    boolean format(long arg0, StringBuilder out) {
+        expectNonNull(out, "out");
+        return !namedArguments && appendAll(instructions, out, arg0, arg0);
+    }
+
+    private static boolean appendAll(Instruction[] instructions, StringBuilder out, long arg0, long pluralNumber) {
+        for (Instruction instruction : instructions) {
+            if (!instruction.append(out, arg0, pluralNumber)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean appendAll(
+            Instruction[] instructions,
+            StringBuilder out,
+            Object[] args,
+            Map<String, Object> namedArgs,
+            Number pluralNumber
+    ) {
+        for (Instruction instruction : instructions) {
+            if (!instruction.append(out, args, namedArgs, pluralNumber)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIntegral(Object arg) {
+        return arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte;
+    }
+
+    private interface Instruction {
+        boolean append(StringBuilder out, Object[] args, Map<String, Object> namedArgs, Number pluralNumber);
+
+        // formats message with a single, not boxed, indexed argument
+        boolean append(StringBuilder out, long arg0, long pluralNumber);
+    }
+
+    private record Literal(String text) implements Instruction {
+        @Override
+        public boolean append(StringBuilder out, Object[] args, Map<String, Object> namedArgs, Number pluralNumber) {
+            out.append(text);
+            return true;
+        }
+
+        @Override
+        public boolean append(StringBuilder out, long arg0, long pluralNumber) {
+            out.append(text);
+            return true;
+        }
+    }
+
+    private record ReplaceNumber(SubFormat numberFormat) implements Instruction {
+        @Override
+        public boolean append(StringBuilder out, Object[] args, Map<String, Object> namedArgs, Number pluralNumber) {
+            out.append(numberFormat.format(pluralNumber));
+            return true;
+        }
+
+        @Override
+        public boolean append(StringBuilder out, long arg0, long pluralNumber) {
+            out.append(numberFormat.format(pluralNumber));
+            return true;
+        }
+    }
+
+    private abstract static class Argument implements Instruction {
+        private final int number;
+        private final String name;
+
+        Argument(int number, String name) {
+            this.number = number;
+            this.name = name;
+        }
+
+        @Override
+        public final boolean append(StringBuilder out, Object[] args, Map<String, Object> namedArgs, Number pluralNumber) {
+            Object arg = args != null
+                    ? (number >= 0 && number < args.length ? args[number] : MISSING)
+                    : (namedArgs.containsKey(name) ? namedArgs.get(name) : MISSING);
+            if (arg == MISSING) {
+                out.append('{').append(name).append('}');
+                return true;
+            }
+            if (arg == null) {
+                out.append("null");
+                return true;
+            }
+            return append(out, arg, args, namedArgs);
+        }
+
+        @Override
+        public final boolean append(StringBuilder out, long arg0, long pluralNumber) {
+            if (number != 0) {
+                out.append('{').append(name).append('}');
+                return true;
+            }
+            return append(out, arg0);
+        }
+
+        abstract boolean append(StringBuilder out, Object arg, Object[] args, Map<String, Object> namedArgs);
+
+        boolean append(StringBuilder out, long arg) {
+            return false;
+        }
+    }
+
+    private static final class DefaultArgument extends Argument {
+        private final SubFormat numberFormat;
+        private final ULocale locale;
+        private final TimeZoneContext timeZone;
+        private final CurrencyFormats currencyFormats;
+        private volatile SubFormat dateFormat;
+
+        DefaultArgument(
+                int number,
+                String name,
+                SubFormat numberFormat,
+                ULocale locale,
+                TimeZoneContext timeZone,
+                CurrencyFormats currencyFormats
+        ) {
+            super(number, name);
+            this.numberFormat = numberFormat;
+            this.locale = locale;
+            this.timeZone = timeZone;
+            this.currencyFormats = currencyFormats;
+        }
+
+        @Override
+        boolean append(StringBuilder out, Object arg, Object[] args, Map<String, Object> namedArgs) {
+            if (arg instanceof Number) {
+                out.append(numberFormat.format(arg));
+            } else if (arg instanceof java.util.Date) {
+                out.append(getDateFormat().format(arg));
+            } else if (JavaTimeArguments.isJavaTime(arg)) {
+                if (timeZone == null) {
+                    return false;
+                }
+                getDateFormat().formatJavaTime(arg, timeZone.getZoneId(), out);
+            } else if (arg instanceof Money money) {
+                out.append(currencyFormats.format(money));
+            } else {
+                out.append(arg);
+            }
+            return true;
+        }
+
+        @Override
+        boolean append(StringBuilder out, long arg) {
+            out.append(numberFormat.format(arg));
+            return true;
+        }
+
+        private SubFormat getDateFormat() {
+            // created lazily, like in ICU, so it picks default time zone from the first usage
+            SubFormat result = dateFormat;
+            if (result == null) {
+                DateFormat format = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+                result = SubFormat.of(format, locale.toLanguageTag() + "{0}");
+                dateFormat = result;
+            }
+            return result;
+        }
+    }
+
+    private static final class FormattedArgument extends Argument {
+        private final SubFormat format;
+        private final TimeZoneContext timeZone;
+        // not null for currency style, formats Money values in their own currency
+        private final CurrencyFormats currencyFormats;
+
+        FormattedArgument(
+                int number,
+                String name,
+                SubFormat format,
+                TimeZoneContext timeZone,
+                CurrencyFormats currencyFormats
+        ) {
+            super(number, name);
+            this.format = format;
+            this.timeZone = timeZone;
+            this.currencyFormats = currencyFormats;
+        }
+
+        @Override
+        boolean append(StringBuilder out, Object arg, Object[] args, Map<String, Object> namedArgs) {
+            if (arg instanceof Money money) {
+                if (currencyFormats != null) {
+                    out.append(currencyFormats.format(money));
+                    return true;
+                }
+                if (!format.isNumberFormat()) {
+                    return false;
+                }
+                out.append(format.format(money.amount()));
+                return true;
+            }
+            if (JavaTimeArguments.isJavaTime(arg)) {
+                if (timeZone == null || !format.isDateFormat()) {
+                    return false;
+                }
+                format.formatJavaTime(arg, timeZone.getZoneId(), out);
+                return true;
+            }
+            out.append(format.format(arg));
+            return true;
+        }
+
+        @Override
+        boolean append(StringBuilder out, long arg) {
+            if (!format.isNumberFormat()) {
+                return false;
+            }
+            out.append(format.format(arg));
+            return true;
+        }
+    }
+
+    private static final class PluralArgument extends Argument {
+        private final PluralRules rules;
+        private final double offset;
+        private final double[] explicitValues;
+        private final Instruction[][] explicitMessages;
+        private final Map<String, Instruction[]> keywordMessages;
+        private final Instruction[] otherMessage;
+
+        PluralArgument(
+                int number,
+                String name,
+                PluralRules rules,
+                double offset,
+                double[] explicitValues,
+                Instruction[][] explicitMessages,
+                Map<String, Instruction[]> keywordMessages
+        ) {
+            super(number, name);
+            this.rules = rules;
+            this.offset = offset;
+            this.explicitValues = explicitValues;
+            this.explicitMessages = explicitMessages;
+            this.keywordMessages = Map.copyOf(keywordMessages);
+            this.otherMessage = keywordMessages.get("other");
+        }
+
+        @Override
+        boolean append(StringBuilder out, Object arg, Object[] args, Map<String, Object> namedArgs) {
+            // plural selection for fractions depends on ICU number formatting
+            if (!isIntegral(arg)) {
+                return false;
+            }
+            Number number = (Number) arg;
+            double value = number.doubleValue();
+            Instruction[] message = selectMessage(value);
+            Number pluralNumber = offset == 0 ? number : (Number) (value - offset);
+            return appendAll(message, out, args, namedArgs, pluralNumber);
+        }
+
+        @Override
+        boolean append(StringBuilder out, long arg) {
+            if (offset != 0) {
+                return false;
+            }
+            Instruction[] message = selectMessage((double) arg);
+            return appendAll(message, out, arg, arg);
+        }
+
+        private Instruction[] selectMessage(double value) {
+            for (int i = 0; i < explicitValues.length; ++i) {
+                if (explicitValues[i] == value) {
+                    return explicitMessages[i];
+                }
+            }
+            if (keywordMessages.size() == 1) {
+                return otherMessage;
+            }
+            Instruction[] message = keywordMessages.get(rules.select(value - offset));
+            return message != null ? message : otherMessage;
+        }
+
+    }
+
+    private static final class SelectArgument extends Argument {
+        private final Map<String, Instruction[]> messages;
+        private final Instruction[] otherMessage;
+
+        SelectArgument(int number, String name, Map<String, Instruction[]> messages) {
+            super(number, name);
+            this.messages = Map.copyOf(messages);
+            this.otherMessage = messages.get("other");
+        }
+
+        @Override
+        boolean append(StringBuilder out, Object arg, Object[] args, Map<String, Object> namedArgs) {
+            Instruction[] message = messages.getOrDefault(arg.toString(), otherMessage);
+            return appendAll(message, out, args, namedArgs, null);
+        }
+
+        @Override
+        boolean append(StringBuilder out, long arg) {
+            Instruction[] message = messages.getOrDefault(Long.toString(arg), otherMessage);
+            return appendAll(message, out, arg, arg);
+        }
+    }
+
+    private static final class SubFormat {
+        // small counts are formatted once per number format
+        private static final int SMALL_NUMBERS = 128;
+
+        static SubFormat of(Format format, String key) {
+            return new SubFormat(format, key);
+        }
+
+        private final Format format;
+        // locale and argument pattern
+        private final String key;
+        private final boolean threadSafe;
+        private final boolean numberFormat;
+        private volatile AtomicReferenceArray<String> smallNumbers;
+        private volatile ConcurrentHashMap<ZoneId, ZonedDateFormat> zonedDateFormats;
+
+        private SubFormat(Format format, String key) {
+            this.format = format;
+            this.key = key;
+            // ICU DecimalFormat is thread safe for formatting, other formats are not
+            this.threadSafe = format instanceof DecimalFormat;
+            this.numberFormat = format instanceof NumberFormat;
+        }
+
+        boolean isNumberFormat() {
+            return numberFormat;
+        }
+
+        boolean isDateFormat() {
+            return format instanceof DateFormat;
+        }
+
+        void formatJavaTime(Object value, ZoneId defaultZoneId, StringBuilder out) {
+            ZoneId zoneId = JavaTimeArguments.zoneOf(value, defaultZoneId);
+            long epochMilli = JavaTimeArguments.toEpochMilli(value, zoneId);
+            getZonedDateFormat(zoneId).format(epochMilli, out);
+        }
+
+        private ZonedDateFormat getZonedDateFormat(ZoneId zoneId) {
+            ConcurrentHashMap<ZoneId, ZonedDateFormat> formats = zonedDateFormats;
+            if (formats == null) {
+                formats = new ConcurrentHashMap<>();
+                zonedDateFormats = formats;
+            }
+            ZonedDateFormat result = formats.get(zoneId);
+            if (result == null) {
+                result = ZONED_DATE_FORMATS.computeIfAbsent(key + "@" + zoneId.getId(), k -> createZonedDateFormat(zoneId));
+                formats.put(zoneId, result);
+            }
+            return result;
+        }
+
+        private ZonedDateFormat createZonedDateFormat(ZoneId zoneId) {
+            synchronized (format) {
+                return new ZonedDateFormat((DateFormat) format.clone(), zoneId);
+            }
+        }
+
+        String format(Object value) {
+            if (numberFormat && isIntegral(value)) {
+                return format(((Number) value).longValue());
+            }
+            return formatUncached(value);
+        }
+
+        String format(long value) {
+            if (!numberFormat || value < 0 || value >= SMALL_NUMBERS) {
+                return formatUncached(value);
+            }
+            AtomicReferenceArray<String> cache = smallNumbers;
+            if (cache == null) {
+                cache = new AtomicReferenceArray<>(SMALL_NUMBERS);
+                smallNumbers = cache;
+            }
+            String result = cache.get((int) value);
+            if (result == null) {
+                result = formatUncached(value);
+                cache.set((int) value, result);
+            }
+            return result;
+        }
+
+        private String formatUncached(Object value) {
+            if (threadSafe) {
+                return format.format(value);
+            }
+            synchronized (format) {
+                return format.format(value);
+            }
+        }
+    }
+
+    // ICU currency formats of a single locale, used to format Money values in their own currency
+    private static final class CurrencyFormats {
+        private final ULocale locale;
+        private final ConcurrentHashMap<Currency, SubFormat> formats = new ConcurrentHashMap<>();
+
+        CurrencyFormats(ULocale locale) {
+            this.locale = locale;
+        }
+
+        String format(Money money) {
+            Currency currency = money.currency();
+            SubFormat result = formats.get(currency);
+            if (result == null) {
+                String key = locale.toLanguageTag() + "@" + currency.getCurrencyCode();
+                result = CURRENCY_FORMATS.computeIfAbsent(key, k -> createCurrencyFormat(currency, k));
+                formats.put(currency, result);
+            }
+            return result.format(money.amount());
+        }
+
+        private SubFormat createCurrencyFormat(Currency currency, String key) {
+            // the same format ICU uses for currency style arguments
+            NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+            format.setCurrency(com.ibm.icu.util.Currency.fromJavaCurrency(currency));
+            return SubFormat.of(format, key);
+        }
+    }
+
+    // ICU date format with explicit time zone, formats epoch millis without creating legacy dates.
+    // ICU date formats are not thread safe, and instances of this class are shared between threads,
+    // so formatting uses clones of the prototype. Clones are kept in a few slots picked by the thread id.
+    // A thread takes the clone out of its slot, so threads never wait for each other,
+    // and on a collision the thread formats with a new clone.
+    private static final class ZonedDateFormat {
+        private static final int SLOTS = Integer.highestOneBit(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        private final DateFormat prototype;
+        private final AtomicReferenceArray<Formatter> formatters = new AtomicReferenceArray<>(SLOTS);
+
+        ZonedDateFormat(DateFormat format, ZoneId zoneId) {
+            format.setTimeZone(toIcuTimeZone(zoneId));
+            // prototype is only cloned and never used for formatting
+            this.prototype = format;
+        }
+
+        void format(long epochMilli, StringBuilder out) {
+            int slot = (int) Thread.currentThread().threadId() & (SLOTS - 1);
+            Formatter formatter = formatters.getAndSet(slot, null);
+            if (formatter == null) {
+                formatter = new Formatter((DateFormat) prototype.clone());
+            }
+            formatter.format(epochMilli, out);
+            formatters.set(slot, formatter);
+        }
+
+        private static TimeZone toIcuTimeZone(ZoneId zoneId) {
+            if (zoneId instanceof ZoneOffset offset) {
+                return TimeZone.getTimeZone(offset == ZoneOffset.UTC ? "UTC" : "GMT" + offset.getId());
+            }
+            return TimeZone.getTimeZone(zoneId.getId());
+        }
+    }
+
+    // date format used by a single thread at a time
+    private static final class Formatter {
+        private final DateFormat format;
+        private final Calendar calendar;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition fieldPosition = new FieldPosition(0);
+
+        Formatter(DateFormat format) {
+            this.format = format;
+            this.calendar = format.getCalendar();
+        }
+
+        void format(long epochMilli, StringBuilder out) {
+            calendar.setTimeInMillis(epochMilli);
+            buffer.setLength(0);
+            format.format(calendar, buffer, fieldPosition);
+            out.append(buffer);
+        }
+    }
+
+    private static final class TimeZoneContext {
+        private final ZoneId zoneId;
+        private volatile ZoneId defaultZoneId;
+
+        TimeZoneContext(ZoneId zoneId) {
+            this.zoneId = zoneId;
+        }
+
+        ZoneId getZoneId() {
+            if (zoneId != null) {
+                return zoneId;
+            }
+            // resolved lazily, like in ICU, so it picks default time zone from the first usage
+            ZoneId result = defaultZoneId;
+            if (result == null) {
+                result = ZoneId.systemDefault();
+                defaultZoneId = result;
+            }
+            return result;
+        }
+    }
+
+    private static final class Compiler {
+        private final MessagePattern pattern;
+        private final String patternString;
+        private final Locale locale;
+        private final ULocale ulocale;
+        private final TimeZoneContext timeZone;
+        private CurrencyFormats currencyFormats;
+
+        Compiler(MessagePattern pattern, Locale locale, TimeZoneContext timeZone) {
+            this.pattern = pattern;
+            this.patternString = pattern.getPatternString();
+            this.locale = locale;
+            this.ulocale = ULocale.forLocale(locale);
+            this.timeZone = timeZone;
+        }
+
+        Instruction[] compileMessage(int msgStart) {
+            List<Instruction> result = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int prevIndex = pattern.getPart(msgStart).getLimit();
+            for (int i = msgStart + 1; ; ++i) {
+                Part part = pattern.getPart(i);
+                Part.Type type = part.getType();
+                literal.append(patternString, prevIndex, part.getIndex());
+                if (type == Part.Type.MSG_LIMIT) {
+                    flushLiteral(literal, result);
+                    return result.toArray(new Instruction[0]);
+                }
+                prevIndex = part.getLimit();
+                if (type == Part.Type.REPLACE_NUMBER) {
+                    flushLiteral(literal, result);
+                    result.add(new ReplaceNumber(stockNumberFormat()));
+                } else if (type == Part.Type.ARG_START) {
+                    flushLiteral(literal, result);
+                    result.add(compileArgument(i, part.getArgType()));
+                    int argLimit = pattern.getLimitPartIndex(i);
+                    prevIndex = pattern.getPart(argLimit).getLimit();
+                    i = argLimit;
+                }
+            }
+        }
+
+        private void flushLiteral(StringBuilder literal, List<Instruction> result) {
+            if (!literal.isEmpty()) {
+                result.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+        }
+
+        private Instruction compileArgument(int argStart, ArgType argType) {
+            Part argPart = pattern.getPart(argStart + 1);
+            int number = argPart.getType() == Part.Type.ARG_NUMBER ? argPart.getValue() : -1;
+            String name = pattern.getSubstring(argPart);
+            int styleStart = argStart + 2;
+            return switch (argType) {
+                case NONE -> new DefaultArgument(number, name, stockNumberFormat(), ulocale, timeZone, currencyFormats());
+                case SIMPLE -> new FormattedArgument(
+                        number,
+                        name,
+                        simpleFormat(styleStart),
+                        timeZone,
+                        isCurrencyFormat(styleStart) ? currencyFormats() : null
+                );
+                case PLURAL -> compilePlural(number, name, styleStart, PluralType.CARDINAL);
+                case SELECTORDINAL -> compilePlural(number, name, styleStart, PluralType.ORDINAL);
+                case SELECT -> compileSelect(number, name, styleStart);
+                default -> throw new IllegalArgumentException("Unsupported argument type: " + argType);
+            };
+        }
+
+        private SubFormat simpleFormat(int typeIndex) {
+            String type = pattern.getSubstring(pattern.getPart(typeIndex));
+            String argPattern = pattern.getPartType(typeIndex + 1) == Part.Type.ARG_STYLE
+                    ? "{0," + type + "," + pattern.getSubstring(pattern.getPart(typeIndex + 1)) + "}"
+                    : "{0," + type + "}";
+            String formatKey = locale.toLanguageTag() + argPattern;
+            SubFormat cached = SIMPLE_NUMBER_FORMATS.get(formatKey);
+            if (cached != null) {
+                return cached;
+            }
+            // let ICU create the same sub-format it would use for this argument
+            SubFormat format = SubFormat.of(new MessageFormat(argPattern, ulocale).getFormats()[0], formatKey);
+            // number formats do not depend on default time zone, so they can be shared between templates
+            return format.isNumberFormat()
+                    ? SIMPLE_NUMBER_FORMATS.computeIfAbsent(formatKey, k -> format)
+                    : format;
+        }
+
+        private boolean isCurrencyFormat(int typeIndex) {
+            return pattern.getPartType(typeIndex + 1) == Part.Type.ARG_STYLE
+                    && pattern.getSubstring(pattern.getPart(typeIndex)).equals("number")
+                    && pattern.getSubstring(pattern.getPart(typeIndex + 1)).trim().toLowerCase(Locale.ROOT).equals("currency");
+        }
+
+        private CurrencyFormats currencyFormats() {
+            if (currencyFormats == null) {
+                currencyFormats = new CurrencyFormats(ulocale);
+            }
+            return currencyFormats;
+        }
+
+        private Instruction compilePlural(int number, String name, int styleStart, PluralType pluralType) {
+            int i = styleStart;
+            double offset = 0;
+            if (pattern.getPartType(i).hasNumericValue()) {
+                offset = pattern.getNumericValue(pattern.getPart(i));
+                ++i;
+            }
+            List<Double> explicitValues = new ArrayList<>();
+            List<Instruction[]> explicitMessages = new ArrayList<>();
+            Map<String, Instruction[]> keywordMessages = new HashMap<>();
+            while (pattern.getPartType(i) != Part.Type.ARG_LIMIT) {
+                Part selector = pattern.getPart(i++);
+                if (pattern.getPartType(i).hasNumericValue()) {
+                    explicitValues.add(pattern.getNumericValue(pattern.getPart(i++)));
+                    explicitMessages.add(compileMessage(i));
+                } else {
+                    String keyword = pattern.getSubstring(selector);
+                    if (!keywordMessages.containsKey(keyword)) {
+                        keywordMessages.put(keyword, compileMessage(i));
+                    }
+                }
+                i = pattern.getLimitPartIndex(i) + 1;
+            }
+            double[] values = explicitValues.stream()
+                    .mapToDouble(Double::doubleValue)
+                    .toArray();
+            Instruction[][] messages = explicitMessages.toArray(new Instruction[0][]);
+            PluralRules rules = PluralRules.forLocale(ulocale, pluralType);
+            return new PluralArgument(number, name, rules, offset, values, messages, keywordMessages);
+        }
+
+        private Instruction compileSelect(int number, String name, int styleStart) {
+            int i = styleStart;
+            Map<String, Instruction[]> messages = new HashMap<>();
+            while (pattern.getPartType(i) != Part.Type.ARG_LIMIT) {
+                String keyword = pattern.getSubstring(pattern.getPart(i++));
+                if (!messages.containsKey(keyword)) {
+                    messages.put(keyword, compileMessage(i));
+                }
+                i = pattern.getLimitPartIndex(i) + 1;
+            }
+            return new SelectArgument(number, name, messages);
+        }
+
+        private SubFormat stockNumberFormat() {
+            return STOCK_NUMBER_FORMATS.computeIfAbsent(locale, l -> SubFormat.of(NumberFormat.getInstance(ulocale), l.toLanguageTag()));
+        }
+    }
+}
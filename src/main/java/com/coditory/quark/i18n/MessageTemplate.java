@@ -1,10 +1,12 @@
 package com.coditory.quark.i18n;
 
 import com.ibm.icu.text.MessageFormat;
+import com.ibm.icu.text.MessagePattern;
 
+import java.time.ZoneId;
+import java.util.BitSet;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -12,58 +14,219 @@ import static com.coditory.quark.i18n.ArgumentIndexExtractor.extractArgumentInde
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
 final class MessageTemplate {
-    static MessageTemplate parse(String template, ArgumentResolver argumentResolver) {
+    static MessageTemplate parse(String template, ArgumentResolver argumentResolver, boolean formatJavaTime, ZoneId zoneId) {
         expectNonNull(template, "template");
         expectNonNull(argumentResolver, "argumentResolver");
         try {
             MessageFormat messageFormat = new MessageFormat(template);
-            return new MessageTemplate(template, messageFormat, argumentResolver);
+            MessagePattern pattern = new MessagePattern(template).freeze();
+            return new MessageTemplate(template, messageFormat, pattern, argumentResolver, formatJavaTime, zoneId);
         } catch (Exception e) {
             throw new IllegalArgumentException("Could not parse message template: " + template, e);
         }
     }
 
+    // template without arguments restored from precompiled message pack, does not require ICU parsing
+    static MessageTemplate ofStaticMessage(String template, String message, ArgumentResolver argumentResolver, boolean formatJavaTime, ZoneId zoneId) {
+        expectNonNull(template, "template");
+        expectNonNull(message, "message");
+        expectNonNull(argumentResolver, "argumentResolver");
+        return new MessageTemplate(template, message, argumentResolver, formatJavaTime, zoneId);
+    }
+
     private final ConcurrentHashMap<Locale, MessageFormat> formats = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Locale, MessageProgram> programs = new ConcurrentHashMap<>();
     private final ArgumentResolver argumentResolver;
+    private final boolean formatJavaTime;
+    private final ZoneId zoneId;
     private final String template;
     private final MessageFormat messageFormat;
     private final boolean dynamic;
+    private final String staticMessage;
+    private final MessagePattern pattern;
     private final Set<String> usedArgumentNames;
-    private final Set<Integer> usedArgumentIndexes;
+    private final BitSet usedArgumentIndexes;
 
-    private MessageTemplate(String template, MessageFormat messageFormat, ArgumentResolver argumentResolver) {
+    private MessageTemplate(
+            String template,
+            MessageFormat messageFormat,
+            MessagePattern pattern,
+            ArgumentResolver argumentResolver,
+            boolean formatJavaTime,
+            ZoneId zoneId
+    ) {
         this.template = expectNonNull(template, "template");
         this.messageFormat = expectNonNull(messageFormat, "messageFormat");
         this.argumentResolver = expectNonNull(argumentResolver, "argumentResolver");
+        this.formatJavaTime = formatJavaTime;
+        this.zoneId = zoneId;
         this.usedArgumentNames = messageFormat.usesNamedArguments()
                 ? Set.copyOf(messageFormat.getArgumentNames())
                 : Set.of();
-        this.usedArgumentIndexes = messageFormat.usesNamedArguments()
-                ? Set.of()
-                : extractArgumentIndexes(template);
+        this.usedArgumentIndexes = new BitSet();
+        if (!messageFormat.usesNamedArguments()) {
+            extractArgumentIndexes(template).forEach(usedArgumentIndexes::set);
+        }
         this.dynamic = !usedArgumentNames.isEmpty() || !usedArgumentIndexes.isEmpty();
+        // message without arguments does not depend on locale nor arguments
+        this.staticMessage = dynamic
+                ? null
+                : messageFormat.format(new Object[0]);
+        // fallback to ICU MessageFormat for constructs not supported by compiled program
+        this.pattern = dynamic && MessageProgram.isCompilable(pattern)
+                ? pattern
+                : null;
+    }
+
+    private MessageTemplate(
+            String template,
+            String staticMessage,
+            ArgumentResolver argumentResolver,
+            boolean formatJavaTime,
+            ZoneId zoneId
+    ) {
+        this.template = template;
+        this.staticMessage = staticMessage;
+        this.argumentResolver = argumentResolver;
+        this.formatJavaTime = formatJavaTime;
+        this.zoneId = zoneId;
+        this.messageFormat = null;
+        this.pattern = null;
+        this.dynamic = false;
+        this.usedArgumentNames = Set.of();
+        this.usedArgumentIndexes = new BitSet();
     }
 
     public String resolve(Locale locale, Object[] args) {
         expectNonNull(locale, "locale");
         expectNonNull(args, "args");
-        MessageFormat messageFormat = getMessageFormat(locale);
-        Object[] resolvedArgs = argumentResolver.resolveArguments(args, usedArgumentIndexes);
-        return messageFormat.format(resolvedArgs);
+        if (!dynamic) {
+            return staticMessage;
+        }
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        format(locale, args, out);
+        return out.toString();
+    }
+
+    public String resolve(Locale locale, long arg0) {
+        expectNonNull(locale, "locale");
+        if (!dynamic) {
+            return staticMessage;
+        }
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        format(locale, arg0, out);
+        return out.toString();
     }
 
     public String resolve(Locale locale, Map<String, Object> args) {
         expectNonNull(locale, "locale");
         expectNonNull(args, "args");
-        MessageFormat messageFormat = getMessageFormat(locale);
+        if (!dynamic) {
+            return staticMessage;
+        }
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        format(locale, args, out);
+        return out.toString();
+    }
+
+    void format(Locale locale, Object[] args, Appendable out) {
+        expectNonNull(out, "out");
+        if (out instanceof StringBuilder builder) {
+            format(locale, args, builder);
+        } else if (!dynamic) {
+            Appendables.append(out, staticMessage);
+        } else {
+            StringBuilder buffer = new StringBuilder(template.length() + 16);
+            format(locale, args, buffer);
+            Appendables.append(out, buffer);
+        }
+    }
+
+    void format(Locale locale, Map<String, Object> args, Appendable out) {
+        expectNonNull(out, "out");
+        if (out instanceof StringBuilder builder) {
+            format(locale, args, builder);
+        } else if (!dynamic) {
+            Appendables.append(out, staticMessage);
+        } else {
+            StringBuilder buffer = new StringBuilder(template.length() + 16);
+            format(locale, args, buffer);
+            Appendables.append(out, buffer);
+        }
+    }
+
+    void format(Locale locale, long arg0, StringBuilder out) {
+        expectNonNull(locale, "locale");
+        expectNonNull(out, "out");
+        if (!dynamic) {
+            out.append(staticMessage);
+            return;
+        }
+        if (pattern != null && !argumentResolver.hasTransformer(Long.class)) {
+            int length = out.length();
+            if (getProgram(locale).format(arg0, out)) {
+                return;
+            }
+            out.setLength(length);
+        }
+        // boxed as Long regardless of the value, so transformers see the same type for every long argument
+        format(locale, new Object[]{arg0}, out);
+    }
+
+    void format(Locale locale, Object[] args, StringBuilder out) {
+        expectNonNull(locale, "locale");
+        expectNonNull(args, "args");
+        expectNonNull(out, "out");
+        if (!dynamic) {
+            out.append(staticMessage);
+            return;
+        }
+        Object[] resolvedArgs = argumentResolver.resolveArguments(args, usedArgumentIndexes);
+        if (pattern != null) {
+            int length = out.length();
+            if (getProgram(locale).format(resolvedArgs, out)) {
+                return;
+            }
+            out.setLength(length);
+        }
+        if (formatJavaTime) {
+            resolvedArgs = JavaTimeArguments.toLegacyDates(resolvedArgs, getZoneId());
+        }
+        out.append(getMessageFormat(locale).format(resolvedArgs));
+    }
+
+    void format(Locale locale, Map<String, Object> args, StringBuilder out) {
+        expectNonNull(locale, "locale");
+        expectNonNull(args, "args");
+        expectNonNull(out, "out");
+        if (!dynamic) {
+            out.append(staticMessage);
+            return;
+        }
         Map<String, Object> resolvedArgs = argumentResolver.resolveArguments(args, usedArgumentNames);
-        return messageFormat.format(resolvedArgs);
+        if (pattern != null) {
+            int length = out.length();
+            if (getProgram(locale).format(resolvedArgs, out)) {
+                return;
+            }
+            out.setLength(length);
+        }
+        if (formatJavaTime) {
+            resolvedArgs = JavaTimeArguments.toLegacyDates(resolvedArgs, getZoneId());
+        }
+        out.append(getMessageFormat(locale).format(resolvedArgs));
+    }
+
+    private ZoneId getZoneId() {
+        return zoneId != null ? zoneId : ZoneId.systemDefault();
+    }
+
+    private MessageProgram getProgram(Locale locale) {
+        return programs.computeIfAbsent(locale, l -> MessageProgram.compile(pattern, l, formatJavaTime, zoneId));
     }
 
     private MessageFormat getMessageFormat(Locale locale) {
-        return dynamic
-                ? formats.computeIfAbsent(locale, this::createMessageFormat)
-                : messageFormat;
+        return formats.computeIfAbsent(locale, this::createMessageFormat);
     }
 
     private MessageFormat createMessageFormat(Locale locale) {
@@ -76,6 +239,14 @@ final class MessageTemplate {
         return template;
     }
 
+    boolean isDynamic() {
+        return dynamic;
+    }
+
+    String getStaticMessage() {
+        return staticMessage;
+    }
+
     @Override
     public String toString() {
         return "MessageTemplate{" + template + '}';
@@ -91,6 +262,6 @@ final class MessageTemplate {
 
     @Override
     public int hashCode() {
-        return Objects.hash(template);
+        return template.hashCode();
     }
 }
\ No newline at end of file
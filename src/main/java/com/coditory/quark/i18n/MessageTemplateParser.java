@@ -2,22 +2,38 @@ package com.coditory.quark.i18n;
 
 import com.coditory.quark.i18n.loader.I18nMessageBundle;
 
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
 final class MessageTemplateParser {
+    private static final int PARALLEL_CHUNK_SIZE = 1024;
     private final ReferenceResolver referenceResolver;
     private final ArgumentResolver argumentResolver;
     private final MessageTemplateNormalizer messageTemplateNormalizer;
+    private final boolean formatJavaTime;
+    private final ZoneId zoneId;
 
-    public MessageTemplateParser(ReferenceResolver referenceResolver, ArgumentResolver argumentResolver, MessageTemplateNormalizer messageTemplateNormalizer) {
+    public MessageTemplateParser(
+            ReferenceResolver referenceResolver,
+            ArgumentResolver argumentResolver,
+            MessageTemplateNormalizer messageTemplateNormalizer,
+            boolean formatJavaTime,
+            ZoneId zoneId
+    ) {
         this.referenceResolver = expectNonNull(referenceResolver, "referenceResolver");
         this.argumentResolver = expectNonNull(argumentResolver, "argumentResolver");
         this.messageTemplateNormalizer = expectNonNull(messageTemplateNormalizer, "messageTemplateNormalizer");
+        this.formatJavaTime = formatJavaTime;
+        this.zoneId = zoneId;
     }
 
     Map<I18nKey, MessageTemplate> parseTemplates(List<I18nMessageBundle> bundles) {
@@ -34,12 +50,74 @@ final class MessageTemplateParser {
         return result;
     }
 
+    // templates are parsed in chunks with the executor, later bundles override earlier ones like in sequential parsing
+    Map<I18nKey, MessageTemplate> parseTemplates(List<I18nMessageBundle> bundles, Executor executor) {
+        expectNonNull(bundles, "bundles");
+        expectNonNull(executor, "executor");
+        List<CompletableFuture<List<Map.Entry<I18nKey, MessageTemplate>>>> chunks = new ArrayList<>();
+        for (I18nMessageBundle bundle : bundles) {
+            List<Map.Entry<I18nKey, String>> entries = List.copyOf(bundle.templates().entrySet());
+            for (int i = 0; i < entries.size(); i += PARALLEL_CHUNK_SIZE) {
+                List<Map.Entry<I18nKey, String>> chunk = entries.subList(i, Math.min(i + PARALLEL_CHUNK_SIZE, entries.size()));
+                chunks.add(CompletableFuture.supplyAsync(() -> parseChunk(chunk), executor));
+            }
+        }
+        Map<I18nKey, MessageTemplate> result = new HashMap<>();
+        for (CompletableFuture<List<Map.Entry<I18nKey, MessageTemplate>>> chunk : chunks) {
+            for (Map.Entry<I18nKey, MessageTemplate> entry : join(chunk, chunks)) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    // remaining chunks are cancelled on the first failure, the failure is rethrown unwrapped
+    private static <T> T join(CompletableFuture<T> future, List<? extends CompletableFuture<?>> all) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            all.forEach(it -> it.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // precompiled templates are already normalized and have resolved references
+    Map<I18nKey, MessageTemplate> parsePrecompiledTemplates(List<PrecompiledMessagePack.Entry> entries) {
+        expectNonNull(entries, "entries");
+        Map<I18nKey, MessageTemplate> result = new HashMap<>();
+        for (PrecompiledMessagePack.Entry entry : entries) {
+            result.put(entry.key(), parsePrecompiledTemplate(entry));
+        }
+        return result;
+    }
+
+    MessageTemplate parsePrecompiledTemplate(PrecompiledMessagePack.Entry entry) {
+        expectNonNull(entry, "entry");
+        return entry.staticMessage() != null
+                ? MessageTemplate.ofStaticMessage(entry.template(), entry.staticMessage(), argumentResolver, formatJavaTime, zoneId)
+                : MessageTemplate.parse(entry.template(), argumentResolver, formatJavaTime, zoneId);
+    }
+
+    private List<Map.Entry<I18nKey, MessageTemplate>> parseChunk(List<Map.Entry<I18nKey, String>> entries) {
+        List<Map.Entry<I18nKey, MessageTemplate>> result = new ArrayList<>(entries.size());
+        for (Map.Entry<I18nKey, String> entry : entries) {
+            result.add(Map.entry(entry.getKey(), parseTemplate(entry.getKey(), entry.getValue())));
+        }
+        return result;
+    }
+
     MessageTemplate parseTemplate(I18nKey key, String template) {
         expectNonNull(key, "key");
         expectNonNull(template, "template");
         template = messageTemplateNormalizer.normalize(template);
         template = referenceResolver.resolveReferences(key, template);
-        return MessageTemplate.parse(template, argumentResolver);
+        return MessageTemplate.parse(template, argumentResolver, formatJavaTime, zoneId);
     }
 
     MessageTemplate parseTemplate(Locale locale, String template) {
@@ -47,6 +125,6 @@ final class MessageTemplateParser {
         expectNonNull(template, "template");
         template = messageTemplateNormalizer.normalize(template);
         template = referenceResolver.resolveReferences(locale, template);
-        return MessageTemplate.parse(template, argumentResolver);
+        return MessageTemplate.parse(template, argumentResolver, formatJavaTime, zoneId);
     }
 }
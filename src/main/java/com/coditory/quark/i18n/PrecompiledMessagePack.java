@@ -0,0 +1,212 @@
+package com.coditory.quark.i18n;
+
+import com.coditory.quark.i18n.loader.I18nLoadException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Binary file with normalized templates that have resolved references.
+// Layout (big endian):
+//   magic, version,
+//   locale count, locale language tags,
+//   path count, paths,
+//   entry count, entries: locale index, path index, kind, template, [static message]
+// Strings are stored as byte length followed by UTF-8 bytes.
+final class PrecompiledMessagePack {
+    static final int MAGIC = 0x51493138;
+    static final int VERSION = 1;
+    // template with arguments, parsed with ICU on load
+    private static final byte DYNAMIC = 0;
+    // template without arguments, static message is stored after the template
+    private static final byte STATIC = 1;
+    // template without arguments that renders to itself
+    private static final byte STATIC_LITERAL = 2;
+
+    private PrecompiledMessagePack() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    record Entry(I18nKey key, String template, @Nullable String staticMessage) {
+    }
+
+    static void write(Map<I18nKey, MessageTemplate> templates, Path output) throws IOException {
+        expectNonNull(templates, "templates");
+        expectNonNull(output, "output");
+        // sorted for reproducible output
+        List<Map.Entry<I18nKey, MessageTemplate>> entries = templates.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<I18nKey, MessageTemplate> e) -> e.getKey().locale().toLanguageTag())
+                        .thenComparing(e -> e.getKey().path().getValue()))
+                .toList();
+        Map<Locale, Integer> locales = new HashMap<>();
+        Map<I18nPath, Integer> paths = new HashMap<>();
+        List<String> localeTable = new ArrayList<>();
+        List<String> pathTable = new ArrayList<>();
+        for (Map.Entry<I18nKey, MessageTemplate> entry : entries) {
+            I18nKey key = entry.getKey();
+            if (locales.putIfAbsent(key.locale(), locales.size()) == null) {
+                localeTable.add(key.locale().toLanguageTag());
+            }
+            if (paths.putIfAbsent(key.path(), paths.size()) == null) {
+                pathTable.add(key.path().getValue());
+            }
+        }
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeStrings(out, localeTable);
+            writeStrings(out, pathTable);
+            out.writeInt(entries.size());
+            for (Map.Entry<I18nKey, MessageTemplate> entry : entries) {
+                MessageTemplate template = entry.getValue();
+                out.writeInt(locales.get(entry.getKey().locale()));
+                out.writeInt(paths.get(entry.getKey().path()));
+                if (template.isDynamic()) {
+                    out.writeByte(DYNAMIC);
+                    writeString(out, template.getValue());
+                } else if (template.getStaticMessage().equals(template.getValue())) {
+                    out.writeByte(STATIC_LITERAL);
+                    writeString(out, template.getValue());
+                } else {
+                    out.writeByte(STATIC);
+                    writeString(out, template.getValue());
+                    writeString(out, template.getStaticMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static List<Entry> read(Path path) {
+        expectNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(READ_ONLY, 0, channel.size()), path.toString());
+        } catch (IOException e) {
+            throw new I18nLoadException("Could not read precompiled message pack: " + path, e);
+        }
+    }
+
+    static List<Entry> readClassPath(ClassLoader classLoader, String name) {
+        expectNonNull(classLoader, "classLoader");
+        expectNonNull(name, "name");
+        URL url = classLoader.getResource(name);
+        if (url == null) {
+            throw new I18nLoadException("Missing precompiled message pack on classpath: " + name);
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return read(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                // fallback to stream
+            }
+        }
+        try (InputStream input = url.openStream()) {
+            return read(ByteBuffer.wrap(input.readAllBytes()), name);
+        } catch (IOException e) {
+            throw new I18nLoadException("Could not read precompiled message pack: " + name, e);
+        }
+    }
+
+    static List<Entry> read(ByteBuffer buffer, String source) {
+        try {
+            return new Reader(buffer, source).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | IllegalArgumentException e) {
+            throw new I18nLoadException("Malformed precompiled message pack: " + source, e);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final String source;
+        private byte[] bytes = new byte[256];
+
+        Reader(ByteBuffer buffer, String source) {
+            this.buffer = buffer;
+            this.source = source;
+        }
+
+        List<Entry> read() {
+            if (buffer.getInt() != MAGIC) {
+                throw new I18nLoadException("Expected precompiled message pack: " + source);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new I18nLoadException("Unsupported precompiled message pack version " + version + ": " + source);
+            }
+            Locale[] locales = new Locale[buffer.getInt()];
+            for (int i = 0; i < locales.length; ++i) {
+                locales[i] = Locale.forLanguageTag(readString());
+            }
+            // paths are shared by all entries, so each one is created and validated once
+            I18nPath[] paths = new I18nPath[buffer.getInt()];
+            for (int i = 0; i < paths.length; ++i) {
+                paths[i] = I18nPath.of(readString());
+            }
+            int size = buffer.getInt();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                I18nKey key = I18nKey.of(locales[buffer.getInt()], paths[buffer.getInt()]);
+                byte kind = buffer.get();
+                String template = readString();
+                String staticMessage = switch (kind) {
+                    case DYNAMIC -> null;
+                    case STATIC_LITERAL -> template;
+                    case STATIC -> readString();
+                    default -> throw new I18nLoadException("Malformed precompiled message pack: " + source);
+                };
+                entries.add(new Entry(key, template, staticMessage));
+            }
+            return entries;
+        }
+
+        private String readString() {
+            int length = buffer.getInt();
+            if (buffer.hasArray()) {
+                int offset = buffer.arrayOffset() + buffer.position();
+                buffer.position(buffer.position() + length);
+                return new String(buffer.array(), offset, length, UTF_8);
+            }
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+            buffer.get(bytes, 0, length);
+            return new String(bytes, 0, length, UTF_8);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.coditory.quark.i18n;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Reverse reference graph used to find messages affected by a change.
+// Thread safe for concurrent recording during parallel template parsing.
+final class ReferenceGraph {
+    private final Map<I18nKey, Set<I18nKey>> dependents;
+    private final Map<I18nKey, Set<I18nKey>> dependencies;
+
+    ReferenceGraph() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private ReferenceGraph(Map<I18nKey, Set<I18nKey>> dependents, Map<I18nKey, Set<I18nKey>> dependencies) {
+        this.dependents = dependents;
+        this.dependencies = dependencies;
+    }
+
+    void addDependency(I18nKey key, I18nKey dependency) {
+        expectNonNull(key, "key");
+        expectNonNull(dependency, "dependency");
+        dependencies.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(dependency);
+        dependents.computeIfAbsent(dependency, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    void removeDependencies(I18nKey key) {
+        expectNonNull(key, "key");
+        Set<I18nKey> removed = dependencies.remove(key);
+        if (removed == null) {
+            return;
+        }
+        for (I18nKey dependency : removed) {
+            Set<I18nKey> keys = dependents.get(dependency);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    dependents.remove(dependency);
+                }
+            }
+        }
+    }
+
+    // returns keys with all messages that reference them directly or transitively
+    Set<I18nKey> withDependents(Collection<I18nKey> keys) {
+        expectNonNull(keys, "keys");
+        Set<I18nKey> result = new HashSet<>(keys);
+        Deque<I18nKey> queue = new ArrayDeque<>(keys);
+        while (!queue.isEmpty()) {
+            Set<I18nKey> next = dependents.get(queue.poll());
+            if (next == null) {
+                continue;
+            }
+            for (I18nKey key : next) {
+                if (result.add(key)) {
+                    queue.add(key);
+                }
+            }
+        }
+        return result;
+    }
+
+    ReferenceGraph copy() {
+        return new ReferenceGraph(deepCopy(dependents), deepCopy(dependencies));
+    }
+
+    private static Map<I18nKey, Set<I18nKey>> deepCopy(Map<I18nKey, Set<I18nKey>> map) {
+        Map<I18nKey, Set<I18nKey>> result = new ConcurrentHashMap<>(map.size());
+        for (Map.Entry<I18nKey, Set<I18nKey>> entry : map.entrySet()) {
+            Set<I18nKey> values = ConcurrentHashMap.newKeySet(entry.getValue().size());
+            values.addAll(entry.getValue());
+            result.put(entry.getKey(), values);
+        }
+        return result;
+    }
+}
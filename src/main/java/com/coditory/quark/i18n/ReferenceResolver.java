@@ -1,12 +1,12 @@
 package com.coditory.quark.i18n;
 
 import com.coditory.quark.i18n.loader.I18nMessageBundle;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.PrimitiveIterator;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
@@ -17,8 +17,14 @@ final class ReferenceResolver {
     private final Map<I18nKey, String> templates;
     private final I18nKeyGenerator keyGenerator;
     private final boolean resolveReferences;
+    private final @Nullable ReferenceGraph referenceGraph;
 
     ReferenceResolver(List<I18nMessageBundle> bundles, I18nKeyGenerator keyGenerator, boolean resolveReferences) {
+        this(bundles, keyGenerator, resolveReferences, null);
+    }
+
+    // referenceGraph records keys checked while resolving references of each message
+    ReferenceResolver(List<I18nMessageBundle> bundles, I18nKeyGenerator keyGenerator, boolean resolveReferences, @Nullable ReferenceGraph referenceGraph) {
         expectNonNull(bundles, "bundles");
         expectNonNull(keyGenerator, "keyGenerator");
         Map<I18nKey, String> templates = new HashMap<>();
@@ -32,12 +38,13 @@ final class ReferenceResolver {
         this.templates = unmodifiableMap(templates);
         this.bundles = unmodifiableMap(bundlesByKey);
         this.resolveReferences = resolveReferences;
+        this.referenceGraph = referenceGraph;
     }
 
     String resolveReferences(I18nKey key, String template) {
         expectNonNull(key, "key");
         expectNonNull(template, "template");
-        return resolveReferences(key.locale(), key.path(), template, 0);
+        return resolveReferences(key.locale(), key, template, 0);
     }
 
     String resolveReferences(Locale locale, String template) {
@@ -46,7 +53,7 @@ final class ReferenceResolver {
         return resolveReferences(locale, null, template, 0);
     }
 
-    private String resolveReferences(Locale locale, I18nPath path, String template, int iteration) {
+    private String resolveReferences(Locale locale, @Nullable I18nKey source, String template, int iteration) {
         if (!resolveReferences) {
             return template;
         }
@@ -88,7 +95,7 @@ final class ReferenceResolver {
                     reference.appendCodePoint(c);
                 }
                 I18nPath referencePath = I18nPath.of(reference.toString());
-                String referenceTemplate = resolveReference(locale, path, referencePath);
+                String referenceTemplate = resolveReference(locale, source, referencePath);
                 result.append(referenceTemplate);
                 if (c != '}' && it.hasNext()) {
                     result.appendCodePoint(c);
@@ -111,7 +118,7 @@ final class ReferenceResolver {
             result.append('\\');
         }
         return modified
-                ? resolveReferences(locale, path, result.toString(), iteration + 1)
+                ? resolveReferences(locale, source, result.toString(), iteration + 1)
                 : template;
     }
 
@@ -119,18 +126,24 @@ final class ReferenceResolver {
         return codePoint == '-' || codePoint == '_' || codePoint == '.' || Character.isLetterOrDigit(codePoint);
     }
 
-    private String resolveReference(Locale locale, I18nPath sourcePath, I18nPath referencePath) {
+    private String resolveReference(Locale locale, @Nullable I18nKey source, I18nPath referencePath) {
         I18nKey referenceKey = I18nKey.of(locale, referencePath);
-        I18nMessageBundle bundle = sourcePath != null
-                ? bundles.get(I18nKey.of(locale, sourcePath))
+        I18nMessageBundle bundle = source != null
+                ? bundles.get(source)
                 : null;
         List<I18nKey> keys = bundle != null && bundle.prefix() != null
                 ? keyGenerator.keys(referenceKey, bundle.prefix())
                 : keyGenerator.keys(referenceKey);
-        return keys.stream()
-                .map(templates::get)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElseThrow(() -> new I18nMessagesException("Missing reference: " + referencePath));
+        for (I18nKey key : keys) {
+            if (referenceGraph != null && source != null) {
+                // checked keys are recorded too, adding one of them changes the resolved reference
+                referenceGraph.addDependency(source, key);
+            }
+            String template = templates.get(key);
+            if (template != null) {
+                return template;
+            }
+        }
+        throw new I18nMessagesException("Missing reference: " + referencePath);
     }
 }
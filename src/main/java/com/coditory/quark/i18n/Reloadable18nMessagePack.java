@@ -1,39 +1,68 @@
 package com.coditory.quark.i18n;
 
+import com.coditory.quark.i18n.loader.I18nClassPathCache;
 import com.coditory.quark.i18n.loader.I18nMessageBundle;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.coditory.quark.i18n.Preconditions.expectNonNull;
 
 public final class Reloadable18nMessagePack implements I18nMessagePack {
-    private final Function<List<I18nMessageBundle>, I18nMessagePack> i18nMessagePackCreator;
+    private final Function<List<I18nMessageBundle>, MessagePackSnapshot> snapshotBuilder;
+    private final BiFunction<MessagePackSnapshot, List<I18nMessageBundle>, MessagePackSnapshot> snapshotUpdater;
     private final AggregatedI18nLoader loader;
+    private volatile MessagePackSnapshot snapshot;
     private volatile I18nMessagePack i18nMessagePack;
 
-    Reloadable18nMessagePack(AggregatedI18nLoader loader, Function<List<I18nMessageBundle>, I18nMessagePack> i18nMessagePackCreator) {
-        expectNonNull(i18nMessagePackCreator, "i18nMessagePackCreator");
+    Reloadable18nMessagePack(
+            AggregatedI18nLoader loader,
+            Function<List<I18nMessageBundle>, MessagePackSnapshot> snapshotBuilder,
+            BiFunction<MessagePackSnapshot, List<I18nMessageBundle>, MessagePackSnapshot> snapshotUpdater
+    ) {
+        expectNonNull(snapshotBuilder, "snapshotBuilder");
+        expectNonNull(snapshotUpdater, "snapshotUpdater");
         expectNonNull(loader, "loader");
-        this.i18nMessagePackCreator = i18nMessagePackCreator;
+        this.snapshotBuilder = snapshotBuilder;
+        this.snapshotUpdater = snapshotUpdater;
         this.loader = loader;
-        reload();
+        load();
     }
 
-    public void reload() {
-        reload(loader.load());
+    // class path is scanned again, so reload picks up message files added to or removed from the class path
+    public synchronized void reload() {
+        I18nClassPathCache.invalidate();
+        load();
     }
 
-    private void reload(List<I18nMessageBundle> bundles) {
-        this.i18nMessagePack = i18nMessagePackCreator.apply(bundles);
+    private void load() {
+        update(snapshotBuilder.apply(loader.load()));
+    }
+
+    // watched changes recompile only affected messages
+    private synchronized void onChange(List<I18nMessageBundle> bundles) {
+        update(snapshotUpdater.apply(snapshot, bundles));
+    }
+
+    private void update(MessagePackSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.i18nMessagePack = snapshot.messagePack();
     }
 
     public synchronized void startWatching() {
-        loader.startWatching(this::reload);
+        startWatching(Duration.ZERO);
+    }
+
+    // changes are applied once per quiet period, so a burst of file changes triggers a single update
+    public synchronized void startWatching(@NotNull Duration debounce) {
+        expectNonNull(debounce, "debounce");
+        loader.startWatching(this::onChange, debounce);
     }
 
     public synchronized void stopWatching() {
@@ -70,6 +99,11 @@ public final class Reloadable18nMessagePack implements I18nMessagePack {
         return i18nMessagePack.getMessage(key, args);
     }
 
+    @Override
+    public @NotNull String getMessageForCount(@NotNull I18nKey key, long arg0) {
+        return i18nMessagePack.getMessageForCount(key, arg0);
+    }
+
     @Override
     public @NotNull String getMessage(@NotNull I18nKey key, Map<String, Object> args) {
         return i18nMessagePack.getMessage(key, args);
@@ -92,6 +126,34 @@ public final class Reloadable18nMessagePack implements I18nMessagePack {
         return i18nMessagePack.getMessage(locale, key, args);
     }
 
+    @Override
+    @NotNull
+    public String getMessage(@NotNull Locale locale, @NotNull String key, @NotNull Map<String, Object> args) {
+        return i18nMessagePack.getMessage(locale, key, args);
+    }
+
+    @Override
+    @NotNull
+    public String getMessageForCount(@NotNull Locale locale, @NotNull String key, long arg0) {
+        return i18nMessagePack.getMessageForCount(locale, key, arg0);
+    }
+
+    @Override
+    @Nullable
+    public String getMessageOrNull(@NotNull Locale locale, @NotNull String key, Object... args) {
+        return i18nMessagePack.getMessageOrNull(locale, key, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String key, Object... args) {
+        i18nMessagePack.appendMessage(out, locale, key, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull Locale locale, @NotNull String key, @NotNull Map<String, Object> args) {
+        i18nMessagePack.appendMessage(out, locale, key, args);
+    }
+
     @Override
     @NotNull
     public String format(@NotNull Locale locale, @NotNull String template, Object... args) {
@@ -104,6 +166,44 @@ public final class Reloadable18nMessagePack implements I18nMessagePack {
         return i18nMessagePack.format(locale, template, args);
     }
 
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, Object... args) {
+        i18nMessagePack.appendMessage(out, key, args);
+    }
+
+    @Override
+    public void appendMessage(@NotNull Appendable out, @NotNull I18nKey key, @NotNull Map<String, Object> args) {
+        i18nMessagePack.appendMessage(out, key, args);
+    }
+
+    @Override
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, Object... args) {
+        i18nMessagePack.appendFormatted(out, locale, template, args);
+    }
+
+    @Override
+    public void appendFormatted(@NotNull Appendable out, @NotNull Locale locale, @NotNull String template, @NotNull Map<String, Object> args) {
+        i18nMessagePack.appendFormatted(out, locale, template, args);
+    }
+
+    @Override
+    @Nullable
+    public I18nCacheStats getRenderedMessageCacheStats() {
+        return i18nMessagePack.getRenderedMessageCacheStats();
+    }
+
+    @Override
+    @Nullable
+    public I18nMissingMessageStats getMissingMessageStats() {
+        return i18nMessagePack.getMissingMessageStats();
+    }
+
+    @Override
+    @Nullable
+    public I18nCacheStats getFormatTemplateCacheStats() {
+        return i18nMessagePack.getFormatTemplateCacheStats();
+    }
+
     @Override
     public void close() {
         loader.stopWatching();
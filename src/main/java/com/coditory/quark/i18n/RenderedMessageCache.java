@@ -0,0 +1,94 @@
+package com.coditory.quark.i18n;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.coditory.quark.i18n.Preconditions.expect;
+import static com.coditory.quark.i18n.Preconditions.expectNonNull;
+
+// Caches messages rendered with small sets of immutable arguments.
+final class RenderedMessageCache {
+    static final Set<Class<?>> DEFAULT_ARGUMENT_TYPES = Set.of(
+            String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, Locale.class
+    );
+
+    private final ConcurrentCache<Key, String> cache;
+    private final int maxArguments;
+    private final Set<Class<?>> argumentTypes;
+
+    RenderedMessageCache(int maxEntries, int maxArguments, Set<Class<?>> argumentTypes) {
+        expect(maxEntries > 0, "Expected maxEntries > 0. Got: " + maxEntries);
+        expect(maxArguments > 0, "Expected maxArguments > 0. Got: " + maxArguments);
+        expectNonNull(argumentTypes, "argumentTypes");
+        this.cache = new ConcurrentCache<>(maxEntries);
+        this.maxArguments = maxArguments;
+        this.argumentTypes = Set.copyOf(argumentTypes);
+    }
+
+    String resolve(I18nMessage message, Object[] args) {
+        if (!message.getMessageTemplate().isDynamic() || !isCacheable(args)) {
+            return message.resolve(args);
+        }
+        Key key = new Key(message.getMessageTemplate(), message.getLocale(), List.of(args));
+        String result = cache.get(key);
+        if (result == null) {
+            result = message.resolve(args);
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    String resolve(I18nMessage message, Map<String, Object> args) {
+        if (!message.getMessageTemplate().isDynamic() || !isCacheable(args)) {
+            return message.resolve(args);
+        }
+        Key key = new Key(message.getMessageTemplate(), message.getLocale(), Map.copyOf(args));
+        String result = cache.get(key);
+        if (result == null) {
+            result = message.resolve(args);
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    I18nCacheStats stats() {
+        return cache.stats();
+    }
+
+    private boolean isCacheable(Object[] args) {
+        if (args.length > maxArguments) {
+            return false;
+        }
+        for (Object arg : args) {
+            if (!isCacheable(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCacheable(Map<String, Object> args) {
+        if (args.size() > maxArguments) {
+            return false;
+        }
+        for (Object arg : args.values()) {
+            if (!isCacheable(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCacheable(Object arg) {
+        // exact type match - subclasses of allowed types may be mutable
+        return arg != null && (argumentTypes.contains(arg.getClass()) || arg.getClass().isEnum());
+    }
+
+    // templates are compared by value, so the same template used under multiple keys shares entries
+    private record Key(MessageTemplate template, Locale locale, Object args) {
+    }
+}
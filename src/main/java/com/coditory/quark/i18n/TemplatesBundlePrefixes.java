@@ -16,7 +16,7 @@ final class TemplatesBundlePrefixes {
                 .toList();
     }
 
-    static private I18nMessageBundle prefix(I18nMessageBundle bundle) {
+    static I18nMessageBundle prefix(I18nMessageBundle bundle) {
         I18nPath prefix = bundle.prefix();
         if (prefix == null || prefix.isRoot()) {
             return bundle;
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -32,17 +34,48 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toSet;
 
 final class ClassPath {
     private static final Logger logger = LoggerFactory.getLogger(ClassPath.class.getName());
     private static final String CLASS_FILE_NAME_EXTENSION = ".class";
     private static final String PATH_SEPARATOR_SYS_PROP = File.pathSeparator;
     private static final String JAVA_CLASS_PATH_SYS_PROP = System.getProperty("java.class.path");
-    private final Set<ResourceInfo> resources;
+    // scans are shared by all loaders and rebuilds until invalidated,
+    // soft references let garbage collector drop them under memory pressure.
+    // Cached scans hold only resource names, so they do not keep the weakly referenced class loaders alive.
+    private static final Map<ClassLoader, SoftReference<ClassPath>> cache = new WeakHashMap<>();
+    // sorted, so resources with common prefix form a continuous range
+    private final String[] resourceNames;
+
+    private ClassPath(Set<String> resourceNames) {
+        this.resourceNames = resourceNames.toArray(String[]::new);
+        Arrays.sort(this.resourceNames);
+    }
+
+    static ClassPath cached(ClassLoader classloader) {
+        requireNonNull(classloader);
+        synchronized (cache) {
+            SoftReference<ClassPath> reference = cache.get(classloader);
+            ClassPath classPath = reference != null ? reference.get() : null;
+            if (classPath == null) {
+                classPath = from(classloader);
+                cache.put(classloader, new SoftReference<>(classPath));
+            }
+            return classPath;
+        }
+    }
 
-    private ClassPath(Set<ResourceInfo> resources) {
-        this.resources = resources;
+    static void invalidate(ClassLoader classloader) {
+        requireNonNull(classloader);
+        synchronized (cache) {
+            cache.remove(classloader);
+        }
+    }
+
+    static void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
     }
 
     static ClassPath from(ClassLoader classloader) {
@@ -52,17 +85,28 @@ final class ClassPath {
         for (LocationInfo location : locations) {
             scanned.add(location.path());
         }
-        Set<ResourceInfo> resources = new LinkedHashSet<>();
+        // resources with the same name are resolved by the class loader to the first one on the class path
+        Set<String> resourceNames = new HashSet<>();
         for (LocationInfo location : locations) {
-            resources.addAll(location.scanResources(scanned));
+            resourceNames.addAll(location.scanResources(scanned));
         }
-        return new ClassPath(resources);
+        return new ClassPath(resourceNames);
     }
 
-    Set<ResourceInfo> getResources(String packageName) {
+    static URL getResource(ClassLoader classLoader, String resourceName) {
+        requireNonNull(classLoader);
+        requireNonNull(resourceName);
+        URL url = classLoader.getResource(resourceName);
+        if (url == null) {
+            throw new NoSuchElementException(resourceName);
+        }
+        return url;
+    }
+
+    List<String> getResourceNames(String packageName) {
         requireNonNull(packageName);
         if (packageName.isBlank()) {
-            return resources;
+            return List.of(resourceNames);
         }
         String path = packageName.replace(".", "/");
         if (path.startsWith("/")) {
@@ -71,71 +115,26 @@ final class ClassPath {
         if (!path.endsWith("/")) {
             path = path + "/";
         }
-        String filePrefix = path;
-        return resources.stream()
-                .filter(r -> r.getResourceName().startsWith(filePrefix))
-                .collect(toSet());
-    }
-
-    public static class ResourceInfo {
-        private final String resourceName;
-        final ClassLoader loader;
-
-        static ResourceInfo of(String resourceName, ClassLoader loader) {
-            return resourceName.endsWith(CLASS_FILE_NAME_EXTENSION)
-                    ? new ClassInfo(resourceName, loader)
-                    : new ResourceInfo(resourceName, loader);
-        }
-
-        ResourceInfo(String resourceName, ClassLoader loader) {
-            this.resourceName = requireNonNull(resourceName);
-            this.loader = requireNonNull(loader);
-        }
-
-        public final URL url() {
-            URL url = loader.getResource(resourceName);
-            if (url == null) {
-                throw new NoSuchElementException(resourceName);
-            }
-            return url;
-        }
-
-        public final String getResourceName() {
-            return resourceName;
-        }
-
-        @Override
-        public int hashCode() {
-            return resourceName.hashCode();
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj instanceof ResourceInfo that) {
-                return resourceName.equals(that.resourceName)
-                        && loader == that.loader;
-            }
-            return false;
-        }
-
-        @Override
-        public String toString() {
-            return resourceName;
+        int from = firstIndexNotBefore(path);
+        int to = from;
+        while (to < resourceNames.length && resourceNames[to].startsWith(path)) {
+            to++;
         }
+        return List.of(Arrays.copyOfRange(resourceNames, from, to));
     }
 
-    public static final class ClassInfo extends ResourceInfo {
-        private final String className;
-
-        ClassInfo(String resourceName, ClassLoader loader) {
-            super(resourceName, loader);
-            this.className = ClassPath.getClassName(resourceName);
-        }
-
-        @Override
-        public String toString() {
-            return className;
+    private int firstIndexNotBefore(String resourceName) {
+        int low = 0;
+        int high = resourceNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (resourceNames[mid].compareTo(resourceName) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
     }
 
     static Set<LocationInfo> locationsFrom(ClassLoader classloader) {
@@ -159,14 +158,14 @@ final class ClassPath {
             return home;
         }
 
-        Set<ResourceInfo> scanResources(Set<Path> scannedFiles) {
-            Set<ResourceInfo> resources = new LinkedHashSet<>();
+        Set<String> scanResources(Set<Path> scannedFiles) {
+            Set<String> resources = new LinkedHashSet<>();
             scannedFiles.add(home);
             scan(home, scannedFiles, resources);
             return unmodifiableSet(resources);
         }
 
-        private void scan(Path path, Set<Path> scannedUris, Set<ResourceInfo> result) {
+        private void scan(Path path, Set<Path> scannedUris, Set<String> result) {
             try {
                 if (!Files.exists(path)) {
                     return;
@@ -182,7 +181,7 @@ final class ClassPath {
             }
         }
 
-        private void scanJar(Path path, Set<Path> scannedUris, Set<ResourceInfo> result) {
+        private void scanJar(Path path, Set<Path> scannedUris, Set<String> result) {
             File file = path.toFile();
             JarFile jarFile;
             try {
@@ -210,18 +209,18 @@ final class ClassPath {
             }
         }
 
-        private void scanJarFile(JarFile file, Set<ResourceInfo> result) {
+        private void scanJarFile(JarFile file, Set<String> result) {
             Enumeration<JarEntry> entries = file.entries();
             while (entries.hasMoreElements()) {
                 JarEntry entry = entries.nextElement();
-                if (entry.isDirectory() || entry.getName().equals(JarFile.MANIFEST_NAME)) {
+                if (entry.isDirectory() || entry.getName().equals(JarFile.MANIFEST_NAME) || isClassFile(entry.getName())) {
                     continue;
                 }
-                result.add(ResourceInfo.of(entry.getName(), classloader));
+                result.add(entry.getName());
             }
         }
 
-        private void scanDirectory(Path path, Set<ResourceInfo> result) {
+        private void scanDirectory(Path path, Set<String> result) {
             Set<Path> currentPath = new HashSet<>();
             currentPath.add(path.normalize());
             scanDirectory(path, "", currentPath, result);
@@ -231,7 +230,7 @@ final class ClassPath {
                 Path path,
                 String packagePrefix,
                 Set<Path> currentPath,
-                Set<ResourceInfo> builder
+                Set<String> builder
         ) {
             listDirOrEmpty(path).forEach(p -> {
                 String name = p.getFileName().toString();
@@ -243,8 +242,8 @@ final class ClassPath {
                     }
                 } else {
                     String resourceName = packagePrefix + name;
-                    if (!resourceName.equals(JarFile.MANIFEST_NAME)) {
-                        builder.add(ResourceInfo.of(resourceName, classloader));
+                    if (!resourceName.equals(JarFile.MANIFEST_NAME) && !isClassFile(resourceName)) {
+                        builder.add(resourceName);
                     }
                 }
             });
@@ -353,9 +352,9 @@ final class ClassPath {
         return jarFile.toURI().resolve(path).toURL();
     }
 
-    private static String getClassName(String filename) {
-        int classNameEnd = filename.length() - CLASS_FILE_NAME_EXTENSION.length();
-        return filename.substring(0, classNameEnd).replace('/', '.');
+    // class files are never message files, skipping them keeps cached scans small
+    private static boolean isClassFile(String resourceName) {
+        return resourceName.endsWith(CLASS_FILE_NAME_EXTENSION);
     }
 
     private static File toFile(URL url) {
@@ -0,0 +1,94 @@
+package com.coditory.quark.i18n.loader;
+
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangeListener;
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangeType;
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Collects file change events and passes them in a single batch after a quiet period.
+// Events of the same file are collapsed and the batch is handled off the watcher thread.
+final class FileChangeBatcher implements FileChangeListener, AutoCloseable {
+    private static final AtomicLong THREAD_COUNT = new AtomicLong(0);
+    // continuous changes are flushed at least once per this many quiet periods
+    private static final int MAX_DELAY_QUIET_PERIODS = 10;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<Path, FileChangeType> pending = new LinkedHashMap<>();
+    private final Consumer<List<FileChangedEvent>> consumer;
+    private final ScheduledExecutorService scheduler;
+    private final long quietPeriodNanos;
+    private ScheduledFuture<?> scheduled;
+    private long firstPendingNanos;
+
+    FileChangeBatcher(Duration quietPeriod, Consumer<List<FileChangedEvent>> consumer) {
+        requireNonNull(quietPeriod);
+        this.consumer = requireNonNull(consumer);
+        this.quietPeriodNanos = quietPeriod.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "i18n-file-change-batcher-" + THREAD_COUNT.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public synchronized void onFileChange(FileChangedEvent event) {
+        requireNonNull(event);
+        long now = System.nanoTime();
+        if (pending.isEmpty()) {
+            firstPendingNanos = now;
+        }
+        pending.merge(event.path(), event.changeType(), FileChangeBatcher::collapse);
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        long maxDelay = firstPendingNanos + MAX_DELAY_QUIET_PERIODS * quietPeriodNanos - now;
+        scheduled = scheduler.schedule(this::flush, Math.max(0, Math.min(quietPeriodNanos, maxDelay)), NANOSECONDS);
+    }
+
+    private static FileChangeType collapse(FileChangeType previous, FileChangeType next) {
+        // file created and modified in the same batch is still a new file
+        return previous == FileChangeType.CREATE && next == FileChangeType.MODIFY
+                ? FileChangeType.CREATE
+                : next;
+    }
+
+    private void flush() {
+        List<FileChangedEvent> events;
+        synchronized (this) {
+            events = pending.entrySet().stream()
+                    .map(entry -> new FileChangedEvent(entry.getValue(), entry.getKey()))
+                    .toList();
+            pending.clear();
+            scheduled = null;
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        logger.debug("Handling batch of {} file change events", events.size());
+        try {
+            consumer.accept(events);
+        } catch (RuntimeException e) {
+            logger.warn("File change batch listener exception", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
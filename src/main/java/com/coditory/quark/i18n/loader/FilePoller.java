@@ -0,0 +1,230 @@
+package com.coditory.quark.i18n.loader;
+
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangeListener;
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangeType;
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Detects file changes by scanning matched files on a fixed schedule.
+// State of every file is kept in primitive arrays indexed by a slot assigned to the file path.
+final class FilePoller implements Runnable {
+    private static final AtomicLong THREAD_COUNT = new AtomicLong(0);
+    private static final long NO_HASH = 0;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<Path, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final List<FileChangeListener> listeners;
+    private final List<Path> baseDirectories;
+    private final Predicate<Path> filter;
+    private final Duration interval;
+    private final boolean compareContent;
+    private Path[] paths = new Path[64];
+    private long[] sizes = new long[64];
+    private long[] modifiedTimes = new long[64];
+    private long[] hashes = new long[64];
+    private int[] scans = new int[64];
+    private int scan = 0;
+
+    FilePoller(
+            FileSystem fileSystem,
+            List<FileChangeListener> listeners,
+            List<String> baseDirectories,
+            Predicate<Path> filter,
+            Duration interval,
+            boolean compareContent
+    ) {
+        requireNonNull(fileSystem);
+        this.listeners = List.copyOf(listeners);
+        this.baseDirectories = baseDirectories.stream()
+                .map(fileSystem::getPath)
+                .distinct()
+                .toList();
+        this.filter = requireNonNull(filter);
+        this.interval = requireNonNull(interval);
+        this.compareContent = compareContent;
+    }
+
+    static Thread startPollingThread(
+            FileSystem fileSystem,
+            Collection<I18nPathPattern> pathPatterns,
+            FileChangeListener listener,
+            Duration interval,
+            boolean compareContent
+    ) {
+        List<I18nPathPattern> absolutePatterns = FileWatcher.absolutePatterns(fileSystem, pathPatterns);
+        FilePoller poller = new FilePoller(
+                fileSystem,
+                List.of(listener),
+                FileWatcher.baseDirectories(absolutePatterns),
+                FileWatcher.pathFilter(absolutePatterns),
+                interval,
+                compareContent
+        );
+        // initial scan registers existing files without events
+        poller.poll(false);
+        return Thread.ofVirtual()
+                .name("i18n-file-poller-" + THREAD_COUNT.getAndIncrement())
+                .start(poller);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                NANOSECONDS.sleep(interval.toNanos());
+                poll(true);
+            }
+        } catch (InterruptedException e) {
+            logger.debug("Stopping file poller because of interruption");
+        }
+    }
+
+    void poll(boolean notify) {
+        scan++;
+        for (Path baseDirectory : baseDirectories) {
+            if (Files.isDirectory(baseDirectory)) {
+                scanDirectory(baseDirectory, notify);
+            }
+        }
+        for (int slot = 0; slot < paths.length; ++slot) {
+            if (paths[slot] != null && scans[slot] != scan) {
+                Path path = paths[slot];
+                release(slot);
+                if (notify) {
+                    logger.debug("File deleted: {}", path);
+                    notifyListeners(FileChangeType.DELETE, path);
+                }
+            }
+        }
+    }
+
+    private void scanDirectory(Path directory, boolean notify) {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && filter.test(path)) {
+                        onFileScanned(path, attrs, notify);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path path, IOException e) {
+                    // file removed during the scan
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not scan directory: " + directory, e);
+        }
+    }
+
+    private void onFileScanned(Path path, BasicFileAttributes attrs, boolean notify) {
+        long size = attrs.size();
+        long modifiedTime = attrs.lastModifiedTime().to(NANOSECONDS);
+        Integer slot = slots.get(path);
+        if (slot == null) {
+            slot = allocate(path);
+            update(slot, size, modifiedTime, hash(path));
+            if (notify) {
+                logger.debug("File created: {}", path);
+                notifyListeners(FileChangeType.CREATE, path);
+            }
+            return;
+        }
+        scans[slot] = scan;
+        if (sizes[slot] == size && modifiedTimes[slot] == modifiedTime) {
+            return;
+        }
+        long hash = hash(path);
+        boolean modified = !compareContent || sizes[slot] != size || hashes[slot] != hash;
+        update(slot, size, modifiedTime, hash);
+        if (modified && notify) {
+            logger.debug("File modified: {}", path);
+            notifyListeners(FileChangeType.MODIFY, path);
+        }
+    }
+
+    private long hash(Path path) {
+        if (!compareContent) {
+            return NO_HASH;
+        }
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(path)) {
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            logger.debug("Could not hash file: {}", path);
+            return NO_HASH;
+        }
+        return crc.getValue();
+    }
+
+    private int allocate(Path path) {
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : slots.size();
+        if (slot >= paths.length) {
+            int capacity = 2 * paths.length;
+            paths = Arrays.copyOf(paths, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            modifiedTimes = Arrays.copyOf(modifiedTimes, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            scans = Arrays.copyOf(scans, capacity);
+        }
+        slots.put(path, slot);
+        paths[slot] = path;
+        scans[slot] = scan;
+        return slot;
+    }
+
+    private void update(int slot, long size, long modifiedTime, long hash) {
+        sizes[slot] = size;
+        modifiedTimes[slot] = modifiedTime;
+        hashes[slot] = hash;
+    }
+
+    private void release(int slot) {
+        slots.remove(paths[slot]);
+        paths[slot] = null;
+        freeSlots.add(slot);
+    }
+
+    private void notifyListeners(FileChangeType changeType, Path path) {
+        FileChangedEvent event = new FileChangedEvent(changeType, path);
+        for (FileChangeListener listener : listeners) {
+            try {
+                listener.onFileChange(event);
+            } catch (RuntimeException e) {
+                logger.warn("File change event listener exception", e);
+            }
+        }
+    }
+}
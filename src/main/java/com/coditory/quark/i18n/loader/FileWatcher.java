@@ -235,6 +235,26 @@ final class FileWatcher implements Runnable {
         }
     }
 
+    static List<I18nPathPattern> absolutePatterns(FileSystem fileSystem, Collection<I18nPathPattern> pathPatterns) {
+        return pathPatterns.stream()
+                .map(p -> p.withAbsoluteBaseDirectory(fileSystem))
+                .toList();
+    }
+
+    static List<String> baseDirectories(List<I18nPathPattern> absolutePatterns) {
+        return absolutePatterns.stream()
+                .map(I18nPathPattern::getBaseDirectory)
+                .distinct()
+                .toList();
+    }
+
+    static Predicate<Path> pathFilter(List<I18nPathPattern> absolutePatterns) {
+        Predicate<String> filter = absolutePatterns.stream()
+                .map(p -> p.getPattern().asMatchPredicate())
+                .reduce((p) -> false, Predicate::or);
+        return p -> filter.test(p.toString());
+    }
+
     public static FileWatcherBuilder builder() {
         return new FileWatcherBuilder();
     }
@@ -277,18 +297,8 @@ final class FileWatcher implements Runnable {
         }
 
         public FileWatcher build() {
-            List<I18nPathPattern> absolutePatterns = pathPatterns.stream()
-                    .map(p -> p.withAbsoluteBaseDirectory(fileSystem))
-                    .toList();
-            List<String> baseDirectories = absolutePatterns.stream()
-                    .map(I18nPathPattern::getBaseDirectory)
-                    .distinct()
-                    .toList();
-            Predicate<String> filter = absolutePatterns.stream()
-                    .map(p -> p.getPattern().asMatchPredicate())
-                    .reduce((p) -> false, Predicate::or);
-            Predicate<Path> pathFilter = p -> filter.test(p.toString());
-            return new FileWatcher(fileSystem, listeners, baseDirectories, pathFilter);
+            List<I18nPathPattern> absolutePatterns = absolutePatterns(fileSystem, pathPatterns);
+            return new FileWatcher(fileSystem, listeners, baseDirectories(absolutePatterns), pathFilter(absolutePatterns));
         }
 
         public Thread startWatchingThread() {
@@ -0,0 +1,23 @@
+package com.coditory.quark.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+// Class path is scanned once per class loader and the result is shared by all class path loaders and message packs.
+// Invalidate it when message files are added to or removed from the class path.
+// Reloadable18nMessagePack.reload() invalidates it on its own.
+public final class I18nClassPathCache {
+    private I18nClassPathCache() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    public static void invalidate() {
+        ClassPath.invalidateAll();
+    }
+
+    public static void invalidate(@NotNull ClassLoader classLoader) {
+        requireNonNull(classLoader);
+        ClassPath.invalidate(classLoader);
+    }
+}
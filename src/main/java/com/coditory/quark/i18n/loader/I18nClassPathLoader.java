@@ -8,18 +8,22 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-final class I18nClassPathLoader implements I18nLoader {
+final class I18nClassPathLoader implements I18nLocaleIndexedLoader {
     static I18nFileLoaderBuilder builder() {
         return builder(Thread.currentThread().getContextClassLoader());
     }
@@ -35,16 +39,19 @@ final class I18nClassPathLoader implements I18nLoader {
     private final I18nParser parser;
     private final Map<String, I18nParser> parsersByExtension;
     private final I18nPath staticPrefix;
+    private final Charset charset;
 
     I18nClassPathLoader(
             Set<I18nPathPattern> pathPatterns,
             ClassLoader classLoader,
             I18nParser fileParser,
             Map<String, I18nParser> parsersByExtension,
-            I18nPath staticPrefix
+            I18nPath staticPrefix,
+            Charset charset
     ) {
         this.classLoader = requireNonNull(classLoader);
         this.staticPrefix = requireNonNull(staticPrefix);
+        this.charset = requireNonNull(charset);
         this.pathPatterns = Set.copyOf(pathPatterns);
         this.parsersByExtension = Map.copyOf(parsersByExtension);
         this.parser = fileParser;
@@ -52,31 +59,63 @@ final class I18nClassPathLoader implements I18nLoader {
 
     @NotNull
     @Override
-    public synchronized List<I18nMessageBundle> load() {
+    public List<I18nMessageBundle> load() {
+        // parse files on the calling thread
+        return load(Runnable::run);
+    }
+
+    @NotNull
+    @Override
+    public synchronized List<I18nMessageBundle> load(@NotNull Executor executor) {
+        requireNonNull(executor);
+        List<Supplier<LoadedResource>> tasks = new ArrayList<>();
+        for (I18nPathPattern pathPattern : pathPatterns) {
+            List<Resource> resources = scanFiles(pathPattern);
+            for (Resource resource : resources) {
+                I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
+                tasks.add(() -> new LoadedResource(resource, matchedGroups, parseFile(matchedGroups.locale(), resource)));
+            }
+        }
         List<I18nMessageBundle> result = new ArrayList<>();
+        for (LoadedResource loaded : ParallelTasks.execute(tasks, executor)) {
+            I18nMessageBundle templates = toBundle(loaded);
+            result.add(templates);
+            logger.debug("Loaded message bundle: {}", loaded.resource().url());
+        }
+        return unmodifiableList(result);
+    }
+
+    // only resources matched with a locale are loaded lazily
+    @NotNull
+    @Override
+    public synchronized List<I18nLazyMessageBundle> loadLazily() {
+        List<I18nLazyMessageBundle> result = new ArrayList<>();
         for (I18nPathPattern pathPattern : pathPatterns) {
             List<Resource> resources = scanFiles(pathPattern);
             for (Resource resource : resources) {
-                I18nMessageBundle templates = load(pathPattern, resource);
-                result.add(templates);
-                logger.debug("Loaded message bundle: {}", resource.url());
+                I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
+                if (pathPattern.hasLanguageGroup() && matchedGroups.locale() != null) {
+                    result.add(new I18nLazyMessageBundle(matchedGroups.locale(), () -> loadLazyBundle(resource, matchedGroups)));
+                } else {
+                    result.add(I18nLazyMessageBundle.loaded(loadLazyBundle(resource, matchedGroups)));
+                }
             }
         }
         return unmodifiableList(result);
     }
 
-    private I18nMessageBundle load(I18nPathPattern pathPattern, Resource resource) {
-        I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
-        return load(resource, matchedGroups);
+    private synchronized I18nMessageBundle loadLazyBundle(Resource resource, I18nPathGroups matchedGroups) {
+        Map<I18nKey, String> parsed = parseFile(matchedGroups.locale(), resource);
+        logger.debug("Loaded message bundle: {}", resource.url());
+        return toBundle(new LoadedResource(resource, matchedGroups, parsed));
     }
 
-    private I18nMessageBundle load(Resource resource, I18nPathGroups matchedGroups) {
-        Locale locale = matchedGroups.locale();
+    private I18nMessageBundle toBundle(LoadedResource loaded) {
+        I18nPathGroups matchedGroups = loaded.matchedGroups();
         I18nPath prefix = matchedGroups.path() != null
                 ? staticPrefix.child(matchedGroups.path())
                 : staticPrefix;
-        Map<I18nKey, String> parsed = parseFile(locale, resource);
-        return new I18nMessageBundle(parsed, prefix);
+        return new I18nMessageBundle(loaded.entries(), prefix);
     }
 
     private List<Resource> scanFiles(I18nPathPattern pathPattern) {
@@ -89,27 +128,20 @@ final class I18nClassPathLoader implements I18nLoader {
         if (parser == null) {
             throw new I18nLoadException("No file parser defined for: " + resource.name());
         }
-        String content = readFile(resource);
-        if (content.isBlank()) {
-            return Map.of();
-        }
-        try {
-            return parser.parse(content, locale);
+        try (Reader reader = openFile(resource)) {
+            return parser.parse(reader, locale);
+        } catch (UncheckedIOException | IOException e) {
+            throw new I18nLoadException("Could not read classpath resource: " + resource.name(), e);
+        } catch (I18nLoadException e) {
+            throw e;
         } catch (Throwable e) {
             throw new I18nLoadException("Could not parse file: " + resource.name(), e);
         }
     }
 
-    private String readFile(Resource resource) {
+    private Reader openFile(Resource resource) {
         try {
-            StringBuilder resultStringBuilder = new StringBuilder();
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.url().openStream()))) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    resultStringBuilder.append(line).append("\n");
-                }
-            }
-            return resultStringBuilder.toString();
+            return ResourceReader.open(resource, charset);
         } catch (Throwable e) {
             throw new I18nLoadException("Could not read classpath resource: " + resource.name(), e);
         }
@@ -121,4 +153,7 @@ final class I18nClassPathLoader implements I18nLoader {
                 ? null
                 : resourceName.substring(idx + 1);
     }
+
+    private record LoadedResource(Resource resource, I18nPathGroups matchedGroups, Map<I18nKey, String> entries) {
+    }
 }
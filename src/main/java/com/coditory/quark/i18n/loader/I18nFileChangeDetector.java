@@ -0,0 +1,40 @@
+package com.coditory.quark.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+// Strategy used by file system loaders to detect changes of watched message files.
+public sealed interface I18nFileChangeDetector {
+    // uses WatchService, the default strategy
+    @NotNull
+    static I18nFileChangeDetector watchService() {
+        return WatchServiceDetector.INSTANCE;
+    }
+
+    // scans matched files on a fixed schedule, use it when WatchService misses events,
+    // like on some container overlay or network file systems
+    @NotNull
+    static I18nFileChangeDetector polling(@NotNull Duration interval) {
+        return polling(interval, false);
+    }
+
+    // compareContent - hash file content, so files rewritten without changes are not reported
+    @NotNull
+    static I18nFileChangeDetector polling(@NotNull Duration interval, boolean compareContent) {
+        requireNonNull(interval);
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Expected positive polling interval, got: " + interval);
+        }
+        return new PollingDetector(interval, compareContent);
+    }
+
+    enum WatchServiceDetector implements I18nFileChangeDetector {
+        INSTANCE
+    }
+
+    record PollingDetector(Duration interval, boolean compareContent) implements I18nFileChangeDetector {
+    }
+}
@@ -3,6 +3,8 @@ package com.coditory.quark.i18n.loader;
 import com.coditory.quark.i18n.I18nPath;
 import com.coditory.quark.i18n.parser.I18nParser;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.util.ArrayList;
@@ -24,6 +26,8 @@ public final class I18nFileLoaderBuilder {
     private FileSystem fileSystem = FileSystems.getDefault();
     private I18nPath staticPrefix = I18nPath.root();
     private I18nParser fileParser;
+    private Charset charset = StandardCharsets.UTF_8;
+    private I18nFileChangeDetector changeDetector = I18nFileChangeDetector.watchService();
 
     I18nFileLoaderBuilder() {
         // package protected constructor
@@ -75,6 +79,19 @@ public final class I18nFileLoaderBuilder {
         return this;
     }
 
+    public I18nFileLoaderBuilder charset(Charset charset) {
+        requireNonNull(charset);
+        this.charset = charset;
+        return this;
+    }
+
+    // used to watch for changes of files loaded from file system
+    public I18nFileLoaderBuilder changeDetector(I18nFileChangeDetector changeDetector) {
+        requireNonNull(changeDetector);
+        this.changeDetector = changeDetector;
+        return this;
+    }
+
     public I18nFileLoaderBuilder staticKeyPrefix(String prefix) {
         requireNonNull(prefix);
         I18nPath path = I18nPath.of(prefix);
@@ -114,7 +131,8 @@ public final class I18nFileLoaderBuilder {
                 classLoader,
                 fileParser,
                 fileParsersByExtension,
-                staticPrefix
+                staticPrefix,
+                charset
         );
     }
 
@@ -127,7 +145,9 @@ public final class I18nFileLoaderBuilder {
                 fileSystem,
                 fileParser,
                 fileParsersByExtension,
-                staticPrefix
+                staticPrefix,
+                charset,
+                changeDetector
         );
     }
 }
@@ -9,24 +9,29 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-final class I18nFileSystemLoader implements WatchableI18nLoader {
+final class I18nFileSystemLoader implements WatchableI18nLoader, I18nLocaleIndexedLoader {
     static I18nFileLoaderBuilder builder() {
         return builder(FileSystems.getDefault());
     }
@@ -42,20 +47,27 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
     private final I18nParser parser;
     private final Map<String, I18nParser> parsersByExtension;
     private final I18nPath staticPrefix;
+    private final Charset charset;
     private final FileSystem fileSystem;
+    private final I18nFileChangeDetector changeDetector;
     private final Map<String, CachedResource> cachedResources = new LinkedHashMap<>();
     private final Map<String, I18nMessageBundle> cachedBundles = new LinkedHashMap<>();
     private Thread watchThread;
+    private FileChangeBatcher changeBatcher;
 
     I18nFileSystemLoader(
             Set<I18nPathPattern> pathPatterns,
             FileSystem fileSystem,
             I18nParser fileParser,
             Map<String, I18nParser> parsersByExtension,
-            I18nPath staticPrefix
+            I18nPath staticPrefix,
+            Charset charset,
+            I18nFileChangeDetector changeDetector
     ) {
         this.staticPrefix = requireNonNull(staticPrefix);
+        this.charset = requireNonNull(charset);
         this.fileSystem = requireNonNull(fileSystem);
+        this.changeDetector = requireNonNull(changeDetector);
         this.pathPatterns = Set.copyOf(pathPatterns);
         this.parsersByExtension = Map.copyOf(parsersByExtension);
         this.parser = fileParser;
@@ -63,34 +75,71 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
 
     @NotNull
     @Override
-    public synchronized List<I18nMessageBundle> load() {
+    public List<I18nMessageBundle> load() {
+        // parse files on the calling thread
+        return load(Runnable::run);
+    }
+
+    @NotNull
+    @Override
+    public synchronized List<I18nMessageBundle> load(@NotNull Executor executor) {
+        requireNonNull(executor);
+        List<Supplier<LoadedResource>> tasks = new ArrayList<>();
+        for (I18nPathPattern pathPattern : pathPatterns) {
+            List<Resource> resources = scanFiles(pathPattern);
+            for (Resource resource : resources) {
+                I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
+                tasks.add(() -> new LoadedResource(resource, matchedGroups, parseFile(matchedGroups.locale(), resource)));
+            }
+        }
         List<I18nMessageBundle> result = new ArrayList<>();
+        for (LoadedResource loaded : ParallelTasks.execute(tasks, executor)) {
+            I18nMessageBundle templates = toBundle(loaded);
+            result.add(templates);
+            logger.debug("Loaded message bundle: {}", loaded.resource().url());
+        }
+        return unmodifiableList(result);
+    }
+
+    private I18nMessageBundle load(Resource resource, I18nPathGroups matchedGroups) {
+        Map<I18nKey, String> parsed = parseFile(matchedGroups.locale(), resource);
+        return toBundle(new LoadedResource(resource, matchedGroups, parsed));
+    }
+
+    // only resources matched with a locale are loaded lazily
+    @NotNull
+    @Override
+    public synchronized List<I18nLazyMessageBundle> loadLazily() {
+        List<I18nLazyMessageBundle> result = new ArrayList<>();
         for (I18nPathPattern pathPattern : pathPatterns) {
             List<Resource> resources = scanFiles(pathPattern);
             for (Resource resource : resources) {
-                I18nMessageBundle templates = load(pathPattern, resource);
-                result.add(templates);
-                logger.debug("Loaded message bundle: {}", resource.url());
+                I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
+                if (pathPattern.hasLanguageGroup() && matchedGroups.locale() != null) {
+                    result.add(new I18nLazyMessageBundle(matchedGroups.locale(), () -> loadLazyBundle(resource, matchedGroups)));
+                } else {
+                    result.add(I18nLazyMessageBundle.loaded(loadLazyBundle(resource, matchedGroups)));
+                }
             }
         }
         return unmodifiableList(result);
     }
 
-    private I18nMessageBundle load(I18nPathPattern pathPattern, Resource resource) {
-        I18nPathGroups matchedGroups = pathPattern.matchGroups(resource.name());
-        return load(resource, matchedGroups);
+    private synchronized I18nMessageBundle loadLazyBundle(Resource resource, I18nPathGroups matchedGroups) {
+        I18nMessageBundle result = load(resource, matchedGroups);
+        logger.debug("Loaded message bundle: {}", resource.url());
+        return result;
     }
 
-    private I18nMessageBundle load(Resource resource, I18nPathGroups matchedGroups) {
-        Locale locale = matchedGroups.locale();
+    private I18nMessageBundle toBundle(LoadedResource loaded) {
+        I18nPathGroups matchedGroups = loaded.matchedGroups();
         I18nPath prefix = matchedGroups.path() != null
                 ? staticPrefix.child(matchedGroups.path())
                 : staticPrefix;
-        Map<I18nKey, String> parsed = parseFile(locale, resource);
-        String urlString = resource.url().toString();
-        I18nMessageBundle result = new I18nMessageBundle(parsed, prefix);
+        String urlString = loaded.resource().url().toString();
+        I18nMessageBundle result = new I18nMessageBundle(loaded.entries(), prefix);
         cachedBundles.put(urlString, result);
-        cachedResources.put(urlString, new CachedResource(resource, matchedGroups));
+        cachedResources.put(urlString, new CachedResource(loaded.resource(), matchedGroups));
         return result;
     }
 
@@ -104,29 +153,22 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
         if (parser == null) {
             throw new I18nLoadException("No file parser defined for: " + resource.name());
         }
-        String content = readFile(resource);
-        if (content.isBlank()) {
-            return Map.of();
-        }
-        try {
-            return parser.parse(content, locale);
+        try (Reader reader = openFile(resource)) {
+            return parser.parse(reader, locale);
+        } catch (UncheckedIOException | IOException e) {
+            throw new I18nLoadException("Could not read file: " + resource.name(), e);
+        } catch (I18nLoadException e) {
+            throw e;
         } catch (Throwable e) {
             throw new I18nLoadException("Could not parse file: " + resource.name(), e);
         }
     }
 
-    private String readFile(Resource resource) {
+    private Reader openFile(Resource resource) {
         try {
-            StringBuilder resultStringBuilder = new StringBuilder();
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.url().openStream()))) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    resultStringBuilder.append(line).append("\n");
-                }
-            }
-            return resultStringBuilder.toString();
+            return ResourceReader.open(resource, charset);
         } catch (Throwable e) {
-            throw new I18nLoadException("Could not read classpath resource: " + resource.name(), e);
+            throw new I18nLoadException("Could not read file: " + resource.name(), e);
         }
     }
 
@@ -139,21 +181,43 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
 
     @Override
     public synchronized void startWatching() {
+        startWatching(Duration.ZERO);
+    }
+
+    @Override
+    public synchronized void startWatching(@NotNull Duration debounce) {
+        requireNonNull(debounce);
+        if (debounce.isNegative()) {
+            throw new IllegalArgumentException("Expected non-negative debounce, got: " + debounce);
+        }
         if (watchThread != null) {
             throw new I18nLoadException("Loader is already watching for changes");
         }
         if (cachedBundles.isEmpty()) {
             load();
         }
-        watchThread = FileWatcher.builder()
-                .addListener(this::onFileChange)
-                .fileSystem(fileSystem)
-                .addPathPatterns(pathPatterns)
-                .startWatchingThread();
+        FileWatcher.FileChangeListener listener = this::onFileChange;
+        if (!debounce.isZero()) {
+            changeBatcher = new FileChangeBatcher(debounce, this::onFileChanges);
+            listener = changeBatcher;
+        }
+        watchThread = switch (changeDetector) {
+            case I18nFileChangeDetector.WatchServiceDetector ignored -> FileWatcher.builder()
+                    .addListener(listener)
+                    .fileSystem(fileSystem)
+                    .addPathPatterns(pathPatterns)
+                    .startWatchingThread();
+            case I18nFileChangeDetector.PollingDetector polling -> FilePoller.startPollingThread(
+                    fileSystem, pathPatterns, listener, polling.interval(), polling.compareContent());
+        };
     }
 
     @Override
     public synchronized void stopWatching() {
+        if (changeBatcher != null) {
+            changeBatcher.close();
+            changeBatcher = null;
+        }
         if (watchThread == null) {
             return;
         }
@@ -170,11 +234,28 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
         listeners.add(listener);
     }
 
-    private synchronized void onFileChange(FileChangedEvent event) {
+    private void onFileChange(FileChangedEvent event) {
+        onFileChanges(List.of(event));
+    }
+
+    // listeners are notified once per batch of changes
+    private synchronized void onFileChanges(List<FileChangedEvent> events) {
+        for (FileChangedEvent event : events) {
+            applyFileChange(event);
+        }
+        List<I18nMessageBundle> bundles = cachedBundles.values()
+                .stream()
+                .toList();
+        for (I18nLoaderChangeListener listener : listeners) {
+            listener.onChange(bundles);
+        }
+    }
+
+    private void applyFileChange(FileChangedEvent event) {
         Path path = event.path();
         URL url = pathToUrl(path);
         String urlString = url.toString();
-        Resource resource = new Resource(path.toString(), url);
+        Resource resource = new Resource(path.toString(), url, path);
         switch (event.changeType()) {
             case DELETE -> {
                 I18nMessageBundle prev = cachedBundles.remove(urlString);
@@ -194,12 +275,6 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
                 logger.info("Loaded messages from file: {}", relativize(path));
             }
         }
-        List<I18nMessageBundle> bundles = cachedBundles.values()
-                .stream()
-                .toList();
-        for (I18nLoaderChangeListener listener : listeners) {
-            listener.onChange(bundles);
-        }
     }
 
     private void loadToCache(Resource resource) {
@@ -233,4 +308,7 @@ final class I18nFileSystemLoader implements WatchableI18nLoader {
 
     private record CachedResource(Resource resource, I18nPathGroups matchedGroups) {
     }
+
+    private record LoadedResource(Resource resource, I18nPathGroups matchedGroups, Map<I18nKey, String> entries) {
+    }
 }
@@ -0,0 +1,27 @@
+package com.coditory.quark.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Message bundle indexed by locale when resources are scanned, but loaded on first use.
+// Bundle without a locale may contain messages of multiple locales.
+public record I18nLazyMessageBundle(@Nullable Locale locale, @NotNull Supplier<I18nMessageBundle> loader) {
+    public I18nLazyMessageBundle {
+        requireNonNull(loader);
+    }
+
+    public static I18nLazyMessageBundle loaded(@NotNull I18nMessageBundle bundle) {
+        requireNonNull(bundle);
+        return new I18nLazyMessageBundle(null, () -> bundle);
+    }
+
+    @NotNull
+    public I18nMessageBundle load() {
+        return requireNonNull(loader.get());
+    }
+}
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 @FunctionalInterface
 public interface I18nLoader {
@@ -28,4 +29,11 @@ public interface I18nLoader {
 
     @NotNull
     List<I18nMessageBundle> load();
+
+    // loads bundles executing independent tasks (like file parsing) with the executor,
+    // bundles must be returned in the same order as in load()
+    @NotNull
+    default List<I18nMessageBundle> load(@NotNull Executor executor) {
+        return load();
+    }
 }
@@ -0,0 +1,12 @@
+package com.coditory.quark.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+// Loader that indexes message bundles by locale without parsing them.
+public interface I18nLocaleIndexedLoader extends I18nLoader {
+    // bundles must be returned in the same order as in load()
+    @NotNull
+    List<I18nLazyMessageBundle> loadLazily();
+}
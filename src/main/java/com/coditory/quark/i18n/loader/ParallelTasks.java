@@ -0,0 +1,43 @@
+package com.coditory.quark.i18n.loader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+final class ParallelTasks {
+    private ParallelTasks() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    // results are returned in the order of tasks
+    static <T> List<T> execute(List<Supplier<T>> tasks, Executor executor) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(task, executor));
+        }
+        List<T> result = new ArrayList<>(tasks.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                result.add(future.join());
+            } catch (CompletionException e) {
+                futures.forEach(it -> it.cancel(false));
+                throw unwrap(e);
+            }
+        }
+        return result;
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+}
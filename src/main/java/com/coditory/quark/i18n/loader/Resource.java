@@ -1,14 +1,22 @@
 package com.coditory.quark.i18n.loader;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URL;
+import java.nio.file.Path;
 
 import static java.util.Objects.requireNonNull;
 
-record Resource(@NotNull String name, @NotNull URL url) {
+// path is defined for resources from file system
+record Resource(@NotNull String name, @NotNull URL url, @Nullable Path path) {
     Resource(String name, URL url) {
+        this(name, url, null);
+    }
+
+    Resource(String name, URL url, Path path) {
         this.name = requireNonNull(name);
         this.url = requireNonNull(url);
+        this.path = path;
     }
 }
@@ -0,0 +1,103 @@
+package com.coditory.quark.i18n.loader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+// Opens resources as character streams decoded with explicit charset.
+// Content is decoded in chunks, so it is never fully copied to the heap.
+final class ResourceReader {
+    // bigger files are memory mapped instead of being read through a stream buffer
+    private static final long MEMORY_MAP_THRESHOLD = 1024 * 1024;
+
+    private ResourceReader() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    static Reader open(Resource resource, Charset charset) throws IOException {
+        return resource.path() != null
+                ? openFile(resource.path(), charset)
+                : openUrl(resource, charset);
+    }
+
+    private static Reader openFile(Path path, Charset charset) throws IOException {
+        // memory mapping is supported by the default file system only
+        if (path.getFileSystem() != FileSystems.getDefault() || Files.size(path) < MEMORY_MAP_THRESHOLD) {
+            return new BufferedReader(new InputStreamReader(Files.newInputStream(path), charset));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // mapping stays valid after the channel is closed
+            return new BufferedReader(new ByteBufferReader(channel.map(READ_ONLY, 0, channel.size()), charset));
+        }
+    }
+
+    private static Reader openUrl(Resource resource, Charset charset) throws IOException {
+        if ("file".equals(resource.url().getProtocol())) {
+            try {
+                return openFile(Path.of(resource.url().toURI()), charset);
+            } catch (URISyntaxException e) {
+                // fallback to stream
+            }
+        }
+        return new BufferedReader(new InputStreamReader(resource.url().openStream(), charset));
+    }
+
+    private static final class ByteBufferReader extends Reader {
+        private final ByteBuffer input;
+        private final CharsetDecoder decoder;
+        private boolean flushed = false;
+
+        ByteBufferReader(ByteBuffer input, Charset charset) {
+            this.input = input;
+            // same replacement behavior as InputStreamReader
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (flushed) {
+                return -1;
+            }
+            CharBuffer output = CharBuffer.wrap(buffer, offset, length);
+            CoderResult result = decoder.decode(input, output, true);
+            if (result.isUnderflow()) {
+                result = decoder.flush(output);
+                flushed = result.isUnderflow();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            int read = output.position() - offset;
+            // output too small for a surrogate pair
+            if (read == 0 && !flushed) {
+                throw new IOException("Expected read buffer of at least 2 characters");
+            }
+            return read == 0 ? -1 : read;
+        }
+
+        @Override
+        public void close() {
+            // mapped buffer is released by garbage collector
+        }
+    }
+}
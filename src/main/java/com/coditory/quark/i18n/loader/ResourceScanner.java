@@ -39,7 +39,7 @@ final class ResourceScanner {
                 queue.addAll(children);
             } else if (filter.test(path.toString())) {
                 URL url = path.toUri().toURL();
-                Resource resource = new Resource(path.toString(), url);
+                Resource resource = new Resource(path.toString(), url, path);
                 result.add(resource);
             }
         }
@@ -63,11 +63,11 @@ final class ResourceScanner {
 
     private static List<Resource> scanClassPath(ClassLoader classLoader, String packageName, Predicate<String> filter)
             throws IOException {
-        return ClassPath.from(classLoader)
-                .getResources(packageName)
+        return ClassPath.cached(classLoader)
+                .getResourceNames(packageName)
                 .stream()
-                .filter(r -> filter.test(r.getResourceName()))
-                .map(r -> new Resource(r.getResourceName(), r.url()))
+                .filter(filter)
+                .map(name -> new Resource(name, ClassPath.getResource(classLoader, name)))
                 .toList();
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.coditory.quark.i18n.loader;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
@@ -15,6 +18,20 @@ public interface WatchableI18nLoader extends I18nLoader {
         startWatching();
     }
 
+    // changes are reported once per quiet period of the debounce duration,
+    // loaders that do not support debouncing report every change
+    default void startWatching(@NotNull Duration debounce) {
+        requireNonNull(debounce);
+        startWatching();
+    }
+
+    default void startWatching(I18nLoaderChangeListener listener, @NotNull Duration debounce) {
+        requireNonNull(listener);
+        requireNonNull(debounce);
+        addChangeListener(listener);
+        startWatching(debounce);
+    }
+
     void stopWatching();
 
     interface I18nLoaderChangeListener {
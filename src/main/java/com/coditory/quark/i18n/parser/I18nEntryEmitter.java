@@ -0,0 +1,63 @@
+package com.coditory.quark.i18n.parser;
+
+import com.coditory.quark.i18n.I18nKey;
+import com.coditory.quark.i18n.I18nPath;
+import com.coditory.quark.i18n.Locales;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+// Resolves keys of parsed (path, value) entries and passes them to the sink.
+final class I18nEntryEmitter {
+    private final Locale locale;
+    private final I18nEntrySink sink;
+
+    I18nEntryEmitter(@Nullable Locale locale, I18nEntrySink sink) {
+        this.locale = locale;
+        this.sink = requireNonNull(sink);
+    }
+
+    void emit(I18nPath path, String value) {
+        if (value == null) {
+            throw new I18nParseException("Unexpected null value on path: " + path);
+        }
+        sink.accept(resolveKey(path, locale), value);
+    }
+
+    static I18nKey resolveKey(I18nPath path, @Nullable Locale locale) {
+        if (path.isRoot()) {
+            throw new I18nParseException("Expected non-empty path");
+        }
+        if (locale != null) {
+            return I18nKey.of(locale, path);
+        }
+        if (path.getSegments().size() <= 1) {
+            throw new I18nParseException("Expected at least two segments in path: " + path);
+        }
+        return path.getValue().contains("._")
+                ? getKeyWithUnderscoredLocale(path)
+                : getKeyWithLocaleInLastSegment(path);
+    }
+
+    private static I18nKey getKeyWithUnderscoredLocale(I18nPath path) {
+        String localeSegment = path.getSegments().stream()
+                .filter(s -> s.startsWith("_"))
+                .findFirst()
+                .get();
+        Locale keyLocale = Locales.parseLocale(localeSegment.substring(1));
+        List<String> segments = path.getSegments().stream()
+                .filter(s -> !s.startsWith("_"))
+                .toList();
+        I18nPath filteredPath = I18nPath.of(segments);
+        return I18nKey.of(keyLocale, filteredPath);
+    }
+
+    private static I18nKey getKeyWithLocaleInLastSegment(I18nPath path) {
+        String lastSegment = path.getLastSegment();
+        Locale keyLocale = Locales.parseLocale(lastSegment);
+        return I18nKey.of(keyLocale, path.parentOrRoot());
+    }
+}
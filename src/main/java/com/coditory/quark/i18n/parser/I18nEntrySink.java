@@ -0,0 +1,9 @@
+package com.coditory.quark.i18n.parser;
+
+import com.coditory.quark.i18n.I18nKey;
+import org.jetbrains.annotations.NotNull;
+
+@FunctionalInterface
+public interface I18nEntrySink {
+    void accept(@NotNull I18nKey key, @NotNull String value);
+}
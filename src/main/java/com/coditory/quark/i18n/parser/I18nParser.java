@@ -5,6 +5,10 @@ import com.coditory.quark.i18n.I18nPath;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.Locale;
 import java.util.Map;
 
@@ -12,4 +16,19 @@ import java.util.Map;
 public interface I18nParser {
     @NotNull
     Map<I18nKey, String> parse(@NotNull String content, @Nullable Locale locale);
+
+    // reads the whole content, see I18nStreamingParser for parsers that do not buffer it
+    @NotNull
+    default Map<I18nKey, String> parse(@NotNull Reader reader, @Nullable Locale locale) {
+        try {
+            StringWriter content = new StringWriter();
+            reader.transferTo(content);
+            String text = content.toString();
+            return text.isBlank()
+                    ? Map.of()
+                    : parse(text, locale);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read i18n messages", e);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.coditory.quark.i18n.parser;
+
+import com.coditory.quark.i18n.I18nKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+// Parser that pushes entries to the sink as they are read,
+// without keeping the whole content or an intermediate tree in memory.
+public interface I18nStreamingParser extends I18nParser {
+    void parse(@NotNull Reader reader, @Nullable Locale locale, @NotNull I18nEntrySink sink);
+
+    @Override
+    @NotNull
+    default Map<I18nKey, String> parse(@NotNull String content, @Nullable Locale locale) {
+        requireNonNull(content);
+        return parse(new StringReader(content), locale);
+    }
+
+    @Override
+    @NotNull
+    default Map<I18nKey, String> parse(@NotNull Reader reader, @Nullable Locale locale) {
+        requireNonNull(reader);
+        Map<I18nKey, String> result = new LinkedHashMap<>();
+        parse(reader, locale, result::put);
+        return result;
+    }
+}
@@ -1,36 +1,79 @@
 package com.coditory.quark.i18n.parser;
 
-import com.coditory.quark.i18n.I18nKey;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.coditory.quark.i18n.I18nPath;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
-final class JsonI18nParser implements I18nParser {
-    private final Gson gson = new GsonBuilder()
-            .setPrettyPrinting()
-            .create();
-
+final class JsonI18nParser implements I18nStreamingParser {
     @Override
-    @NotNull
-    public Map<I18nKey, String> parse(@NotNull String content, @Nullable Locale locale) {
-        requireNonNull(content);
-        Map<String, Object> entries = parseJson(content);
-        return I18nParsers.parseEntries(entries, locale);
+    public void parse(@NotNull Reader reader, @Nullable Locale locale, @NotNull I18nEntrySink sink) {
+        requireNonNull(reader);
+        requireNonNull(sink);
+        I18nEntryEmitter emitter = new I18nEntryEmitter(locale, sink);
+        try {
+            JsonReader json = new JsonReader(reader);
+            json.setStrictness(Strictness.LENIENT);
+            if (isEmpty(json)) {
+                return;
+            }
+            if (json.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new I18nParseException("Expected JSON object. Got: " + json.peek());
+            }
+            parseObject(json, I18nPath.root(), emitter);
+            if (json.peek() != JsonToken.END_DOCUMENT) {
+                throw new I18nParseException("Expected end of JSON document. Got: " + json.peek());
+            }
+        } catch (I18nParseException e) {
+            throw e;
+        } catch (MalformedJsonException | EOFException | IllegalStateException e) {
+            throw new I18nParseException("Could not parse JSON", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JSON", e);
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJson(@NotNull String content) {
+    private boolean isEmpty(JsonReader json) throws IOException {
         try {
-            Map<String, Object> entries = gson.fromJson(content, Map.class);
-            return entries == null || entries.isEmpty() ? Map.of() : entries;
-        } catch (Throwable e) {
-            throw new I18nParseException("Could not parse JSON", e);
+            json.peek();
+            return false;
+        } catch (EOFException e) {
+            // empty document
+            return true;
+        }
+    }
+
+    private void parseObject(JsonReader json, I18nPath prefix, I18nEntryEmitter emitter) throws IOException {
+        json.beginObject();
+        Set<String> names = new HashSet<>();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            I18nPath path = prefix.child(name);
+            if (!names.add(name)) {
+                throw new I18nParseException("Duplicate key on path: " + path);
+            }
+            switch (json.peek()) {
+                case BEGIN_OBJECT -> parseObject(json, path, emitter);
+                case BEGIN_ARRAY -> throw new I18nParseException("Unexpected collection on path: " + path);
+                case NULL -> throw new I18nParseException("Unexpected null value on path: " + path);
+                case BOOLEAN -> emitter.emit(path, String.valueOf(json.nextBoolean()));
+                // numbers are passed as written in the file
+                default -> emitter.emit(path, json.nextString());
+            }
         }
+        json.endObject();
     }
-}
\ No newline at end of file
+}
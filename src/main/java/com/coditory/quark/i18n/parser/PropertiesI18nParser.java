@@ -1,42 +1,48 @@
 package com.coditory.quark.i18n.parser;
 
-import com.coditory.quark.i18n.I18nKey;
 import com.coditory.quark.i18n.I18nPath;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serial;
+import java.io.UncheckedIOException;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Properties;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
 
-final class PropertiesI18nParser implements I18nParser {
+final class PropertiesI18nParser implements I18nStreamingParser {
     @Override
-    @NotNull
-    public Map<I18nKey, String> parse(@NotNull String content, @Nullable Locale locale) {
-        requireNonNull(content);
-        Map<String, Object> entries = parseProperties(content);
-        return I18nParsers.parseEntries(entries, locale);
-    }
-
-    private Map<String, Object> parseProperties(String content) {
+    public void parse(@NotNull Reader reader, @Nullable Locale locale, @NotNull I18nEntrySink sink) {
+        requireNonNull(reader);
+        requireNonNull(sink);
+        // content is already decoded, so it is not read as ISO-8859-1 like in Properties.load(InputStream)
         try {
-            Properties properties = new Properties();
-            InputStream input = new ByteArrayInputStream(content.getBytes());
-            properties.load(input);
-            if (properties.isEmpty()) {
-                return Map.of();
-            }
-            return properties.entrySet().stream()
-                    .map(entry -> Map.entry(Objects.toString(entry.getKey()), entry.getValue()))
-                    .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
-        } catch (Throwable e) {
+            new EmittingProperties(new I18nEntryEmitter(locale, sink)).load(reader);
+        } catch (IllegalArgumentException e) {
             throw new I18nParseException("Could not parse properties", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read properties", e);
+        }
+    }
+
+    // Properties.load() passes every parsed entry to put(),
+    // so entries are emitted in file order and nothing is stored
+    private static final class EmittingProperties extends Properties {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final transient I18nEntryEmitter emitter;
+
+        EmittingProperties(I18nEntryEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public synchronized Object put(Object key, Object value) {
+            emitter.emit(I18nPath.root().child(key.toString()), value.toString());
+            return null;
         }
     }
 }
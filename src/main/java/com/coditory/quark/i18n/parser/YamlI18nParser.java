@@ -1,33 +1,184 @@
 package com.coditory.quark.i18n.parser;
 
-import com.coditory.quark.i18n.I18nKey;
+import com.coditory.quark.i18n.I18nPath;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.lowlevel.Parse;
+import org.snakeyaml.engine.v2.common.Anchor;
+import org.snakeyaml.engine.v2.events.AliasEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.NodeEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
 
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
-final class YamlI18nParser implements I18nParser {
-    @Override
-    @NotNull
-    public Map<I18nKey, String> parse(@NotNull String content, @Nullable Locale locale) {
-        requireNonNull(content);
-        Map<String, Object> entries = parseYaml(content);
-        return I18nParsers.parseEntries(entries, locale);
-    }
+final class YamlI18nParser implements I18nStreamingParser {
+    private static final Set<String> NULL_VALUES = Set.of("", "~", "null", "Null", "NULL");
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseYaml(@NotNull String content) {
+    @Override
+    public void parse(@NotNull Reader reader, @Nullable Locale locale, @NotNull I18nEntrySink sink) {
+        requireNonNull(reader);
+        requireNonNull(sink);
         try {
             LoadSettings settings = LoadSettings.builder().build();
-            Load yaml = new Load(settings);
-            return (Map<String, Object>) yaml.loadFromString(content);
+            Iterator<Event> events = new Parse(settings).parseReader(reader).iterator();
+            new YamlEventParser(events, new I18nEntryEmitter(locale, sink)).parse();
+        } catch (I18nParseException | UncheckedIOException e) {
+            throw e;
         } catch (Throwable e) {
             throw new I18nParseException("Could not parse YAML", e);
         }
     }
-}
\ No newline at end of file
+
+    // Walks YAML events keeping only the current path.
+    // Anchored nodes are recorded, so aliases can be replayed.
+    private static final class YamlEventParser {
+        private final Iterator<Event> events;
+        private final I18nEntryEmitter emitter;
+        private final Map<String, List<AnchoredEntry>> anchors = new HashMap<>();
+        private final List<AnchorRecording> recordings = new ArrayList<>();
+
+        YamlEventParser(Iterator<Event> events, I18nEntryEmitter emitter) {
+            this.events = events;
+            this.emitter = emitter;
+        }
+
+        void parse() {
+            int documents = 0;
+            while (events.hasNext()) {
+                Event event = events.next();
+                switch (event.getEventId()) {
+                    case DocumentStart -> {
+                        if (++documents > 1) {
+                            throw new I18nParseException("Expected single YAML document");
+                        }
+                    }
+                    case MappingStart -> parseMapping((NodeEvent) event, I18nPath.root());
+                    case Scalar -> {
+                        if (!isNull((ScalarEvent) event)) {
+                            throw new I18nParseException("Expected YAML mapping");
+                        }
+                    }
+                    case SequenceStart, Alias -> throw new I18nParseException("Expected YAML mapping");
+                    default -> {
+                        // stream and document boundaries and comments
+                    }
+                }
+            }
+        }
+
+        private void parseMapping(NodeEvent start, I18nPath path) {
+            AnchorRecording recording = startRecording(start, path);
+            Set<String> keys = new HashSet<>();
+            Event event = nextNode();
+            while (event.getEventId() != Event.ID.MappingEnd) {
+                if (event.getEventId() != Event.ID.Scalar) {
+                    throw new I18nParseException("Expected scalar key on path: " + path);
+                }
+                String key = ((ScalarEvent) event).getValue();
+                I18nPath child = path.child(key);
+                if (!keys.add(key)) {
+                    throw new I18nParseException("Duplicate key on path: " + child);
+                }
+                parseValue(nextNode(), child);
+                event = nextNode();
+            }
+            stopRecording(recording);
+        }
+
+        private void parseValue(Event event, I18nPath path) {
+            switch (event.getEventId()) {
+                case MappingStart -> parseMapping((NodeEvent) event, path);
+                case Scalar -> parseScalar((ScalarEvent) event, path);
+                case Alias -> replay(((AliasEvent) event).getAlias(), path);
+                case SequenceStart -> throw new I18nParseException("Unexpected collection on path: " + path);
+                default -> throw new I18nParseException("Unexpected YAML event on path: " + path);
+            }
+        }
+
+        private void parseScalar(ScalarEvent event, I18nPath path) {
+            String value = isNull(event) ? null : event.getValue();
+            emit(path, value);
+            event.getAnchor().ifPresent(anchor ->
+                    anchors.put(anchor.getValue(), List.of(new AnchoredEntry(I18nPath.root(), value))));
+        }
+
+        private void replay(Anchor alias, I18nPath path) {
+            List<AnchoredEntry> entries = anchors.get(alias.getValue());
+            if (entries == null) {
+                throw new I18nParseException("Unknown YAML alias on path: " + path);
+            }
+            for (AnchoredEntry entry : entries) {
+                emit(path.child(entry.path()), entry.value());
+            }
+        }
+
+        private void emit(I18nPath path, String value) {
+            emitter.emit(path, value);
+            for (AnchorRecording recording : recordings) {
+                recording.record(path, value);
+            }
+        }
+
+        private AnchorRecording startRecording(NodeEvent event, I18nPath path) {
+            if (event.getAnchor().isEmpty()) {
+                return null;
+            }
+            AnchorRecording recording = new AnchorRecording(event.getAnchor().get().getValue(), path);
+            recordings.add(recording);
+            return recording;
+        }
+
+        private void stopRecording(AnchorRecording recording) {
+            if (recording != null) {
+                recordings.remove(recording);
+                anchors.put(recording.anchor, List.copyOf(recording.entries));
+            }
+        }
+
+        private Event nextNode() {
+            while (events.hasNext()) {
+                Event event = events.next();
+                if (event.getEventId() != Event.ID.Comment) {
+                    return event;
+                }
+            }
+            throw new I18nParseException("Unexpected end of YAML document");
+        }
+
+        private boolean isNull(ScalarEvent event) {
+            return event.isPlain() && event.getTag().isEmpty() && NULL_VALUES.contains(event.getValue());
+        }
+    }
+
+    private record AnchoredEntry(I18nPath path, String value) {
+    }
+
+    private static final class AnchorRecording {
+        private final String anchor;
+        private final int depth;
+        private final List<AnchoredEntry> entries = new ArrayList<>();
+
+        AnchorRecording(String anchor, I18nPath path) {
+            this.anchor = anchor;
+            this.depth = path.getSegments().size();
+        }
+
+        void record(I18nPath path, String value) {
+            List<String> segments = path.getSegments();
+            entries.add(new AnchoredEntry(I18nPath.of(segments.subList(depth, segments.size())), value));
+        }
+    }
+}
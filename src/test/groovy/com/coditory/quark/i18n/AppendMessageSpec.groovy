@@ -0,0 +1,70 @@
+package com.coditory.quark.i18n
+
+import spock.lang.Specification
+
+import static com.coditory.quark.i18n.Locales.EN_US
+
+class AppendMessageSpec extends Specification {
+    I18nMessagePack messagePack = I18nMessagePack.builder()
+            .addMessage(EN_US, "hello", "Hello {0}")
+            .addMessage(EN_US, "named", "Hello {name}")
+            .addMessage(EN_US, "static", "Hello World")
+            .usePathOnMissingMessage()
+            .build()
+
+    def "should append messages to a StringBuilder"() {
+        given:
+            StringBuilder out = new StringBuilder("> ")
+        when:
+            messagePack.appendMessage(out, EN_US, "hello", "John")
+            messagePack.appendMessage(out, EN_US, "named", [name: "Alice"])
+            messagePack.appendMessage(out, EN_US, "static")
+            messagePack.appendFormatted(out, EN_US, " {0}!", "Bob")
+        then:
+            out.toString() == "> Hello JohnHello AliceHello World Bob!"
+    }
+
+    def "should append messages to a Writer"() {
+        given:
+            StringWriter out = new StringWriter()
+            I18nMessages messages = messagePack.localize(EN_US)
+        when:
+            messages.appendMessage(out, I18nPath.of("hello"), "John")
+            messages.appendMessage(out, "named", [name: "Alice"])
+            messages.appendMessage(out, "static")
+            messages.appendFormatted(out, " {0}", 1000)
+        then:
+            out.toString() == "Hello JohnHello AliceHello World 1,000"
+    }
+
+    def "should append message template"() {
+        given:
+            I18nMessage message = messagePack.getTemplate(EN_US, I18nPath.of("named"))
+            StringBuilder out = new StringBuilder()
+        when:
+            message.appendMessage(out, [name: "Alice"])
+        then:
+            out.toString() == "Hello Alice"
+    }
+
+    def "should append missing message using missing message handler"() {
+        given:
+            StringBuilder out = new StringBuilder()
+        when:
+            messagePack.appendMessage(out, EN_US, "missing", "John")
+        then:
+            out.toString() == "missing"
+    }
+
+    def "should wrap IOException thrown by the output"() {
+        given:
+            Appendable out = Stub(Appendable) {
+                append(_) >> { throw new IOException("Closed") }
+            }
+        when:
+            messagePack.appendMessage(out, EN_US, "hello", "John")
+        then:
+            UncheckedIOException e = thrown(UncheckedIOException)
+            e.cause.message == "Closed"
+    }
+}
@@ -2,10 +2,10 @@ package com.coditory.quark.i18n
 
 import spock.lang.Specification
 
-class LruCacheSpec extends Specification {
+class ConcurrentCacheSpec extends Specification {
     def "should retrieve values by key"() {
         given:
-            LruCache<String, String> cache = new LruCache<>()
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>()
         and:
             cache.put("a", "A")
             cache.put("b", "B")
@@ -18,7 +18,7 @@ class LruCacheSpec extends Specification {
 
     def "should override value by key"() {
         given:
-            LruCache<String, String> cache = new LruCache<>()
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>()
         and:
             cache.put("a", "A")
             cache.put("b", "B")
@@ -34,7 +34,7 @@ class LruCacheSpec extends Specification {
 
     def "should drop first added item"() {
         given:
-            LruCache<String, String> cache = new LruCache<>(3)
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>(3)
         and:
             cache.put("a", "A")
             cache.put("b", "B")
@@ -49,7 +49,7 @@ class LruCacheSpec extends Specification {
 
     def "should drop least recently read item"() {
         given:
-            LruCache<String, String> cache = new LruCache<>(3)
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>(3)
         and:
             cache.put("a", "A")
             cache.put("b", "B")
@@ -66,7 +66,7 @@ class LruCacheSpec extends Specification {
 
     def "should drop least recently written item"() {
         given:
-            LruCache<String, String> cache = new LruCache<>(3)
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>(3)
         and:
             cache.put("a", "A")
             cache.put("b", "B")
@@ -80,4 +80,38 @@ class LruCacheSpec extends Specification {
             cache.get("c") == "C"
             cache.get("d") == "D"
     }
+
+    def "should count hits, misses and evictions"() {
+        given:
+            ConcurrentCache<String, String> cache = new ConcurrentCache<>(2)
+        and:
+            cache.put("a", "A")
+            cache.put("b", "B")
+            cache.put("c", "C")
+        when:
+            cache.get("b")
+            cache.get("c")
+            cache.get("x")
+        then:
+            cache.stats() == new I18nCacheStats(2, 1, 1, 2)
+    }
+
+    def "should not exceed capacity when written concurrently"() {
+        given:
+            ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(100)
+        when:
+            List<Thread> threads = (0..<8).collect { t ->
+                Thread.start {
+                    (0..<10_000).each { i ->
+                        int key = (i * 31 + t) % 1_000
+                        cache.computeIfAbsent(key, { it * 2 })
+                    }
+                }
+            }
+            threads.each { it.join() }
+        then:
+            cache.size() <= 100
+            cache.stats().evictions() > 0
+            (0..<1_000).every { cache.get(it) == null || cache.get(it) == it * 2 }
+    }
 }
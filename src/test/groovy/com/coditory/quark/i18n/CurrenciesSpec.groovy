@@ -3,6 +3,13 @@ package com.coditory.quark.i18n
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.text.NumberFormat
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+import static Currencies.formatByCurrency
 import static Currencies.parseCurrency
 import static Currencies.parseCurrencyOrDefault
 import static Currencies.parseCurrencyOrEmpty
@@ -68,4 +75,19 @@ class CurrenciesSpec extends Specification {
             Currencies.EUR || "1.234,50 €"  | "1.234,00 €"  | "-1.234,00 €"
             Currencies.USD || "\$1,234.50"  | "\$1,234.00"  | "-\$1,234.00"
     }
-}
\ No newline at end of file
+
+    def "should format amounts by currency from multiple threads"() {
+        given:
+            List<BigDecimal> amounts = (0..<100).collect { new BigDecimal("${it * 1001}.${it % 100}") }
+            List<String> expected = amounts.collect { NumberFormat.getCurrencyInstance(Locales.EN_US).format(it) }
+            ExecutorService executor = Executors.newFixedThreadPool(8)
+        when:
+            List<Future<List<String>>> results = (0..<8).collect {
+                executor.submit({ amounts.collect { formatByCurrency(it, Currencies.USD) } } as Callable<List<String>>)
+            }
+        then:
+            results.every { it.get() == expected }
+        cleanup:
+            executor.shutdown()
+    }
+}
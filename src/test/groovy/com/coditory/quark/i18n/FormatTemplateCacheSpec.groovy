@@ -0,0 +1,108 @@
+package com.coditory.quark.i18n
+
+import com.coditory.quark.i18n.loader.I18nLoader
+import com.coditory.quark.i18n.loader.I18nMessageBundle
+import spock.lang.Specification
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class FormatTemplateCacheSpec extends Specification {
+    def "should cache templates of formatted messages"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .cacheFormatTemplates(10)
+                    .build()
+        when:
+            List<String> results = (0..<3).collect {
+                [
+                        messages.format(EN_US, "{0} items", 5),
+                        messages.format(EN_US, "Hello {name}", [name: "John"])
+                ]
+            }.flatten()
+        then:
+            results == ["5 items", "Hello John"] * 3
+        and:
+            I18nCacheStats stats = messages.getFormatTemplateCacheStats()
+            stats.hits() == 4
+            stats.misses() == 2
+            stats.size() == 2
+    }
+
+    def "should distinguish cached templates by locale"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "company", "ACME")
+                    .addMessage(PL_PL, "company", "ACME Polska")
+                    .cacheFormatTemplates(10)
+                    .build()
+        expect:
+            messages.format(EN_US, "Welcome to \$company") == "Welcome to ACME"
+            messages.format(PL_PL, "Welcome to \$company") == "Welcome to ACME Polska"
+            messages.format(EN_US, "Welcome to \$company") == "Welcome to ACME"
+            messages.getFormatTemplateCacheStats().hits() == 1
+            messages.getFormatTemplateCacheStats().size() == 2
+    }
+
+    def "should limit format template cache size"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .cacheFormatTemplates(2)
+                    .build()
+        when:
+            (0..<10).each { messages.format(EN_US, "Message $it: {0}", it) }
+        then:
+            messages.getFormatTemplateCacheStats().size() == 2
+            messages.getFormatTemplateCacheStats().evictions() == 8
+    }
+
+    def "should not cache format templates by default"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .build()
+        expect:
+            messages.format(EN_US, "Hello {0}", "John") == "Hello John"
+            messages.getFormatTemplateCacheStats() == null
+    }
+
+    def "should not expose format template cache stats when cache is disabled"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .cacheFormatTemplates(10)
+                    .disableFormatTemplateCache()
+                    .build()
+        expect:
+            messages.format(EN_US, "Hello {0}", "John") == "Hello John"
+            messages.getFormatTemplateCacheStats() == null
+    }
+
+    def "should share format template cache with localized messages"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .cacheFormatTemplates(10)
+                    .build()
+        when:
+            messages.format(EN_US, "Hello {0}", "John")
+            messages.localize(EN_US).format("Hello {0}", "Jane")
+        then:
+            messages.getFormatTemplateCacheStats().hits() == 1
+    }
+
+    def "should invalidate format template cache on reload"() {
+        given:
+            String company = "ACME"
+            I18nLoader loader = { -> [new I18nMessageBundle([(I18nKey.of(EN_US, "company")): company])] } as I18nLoader
+            Reloadable18nMessagePack messages = I18nMessagePack.builder()
+                    .addLoader(loader)
+                    .cacheFormatTemplates(10)
+                    .buildReloadable()
+        and:
+            messages.format(EN_US, "Welcome to \$company")
+        when:
+            company = "ACME Corp"
+            messages.reload()
+        then:
+            messages.format(EN_US, "Welcome to \$company") == "Welcome to ACME Corp"
+            messages.getFormatTemplateCacheStats().hits() == 0
+    }
+}
@@ -0,0 +1,91 @@
+package com.coditory.quark.i18n
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.coditory.quark.i18n.Locales.EN
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class I18nMessageIndexSpec extends Specification {
+    @Unroll
+    def "should return the same message instance for repeated queries (#locale, #path)"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN_US, "a", "en-US:a")
+                    .addMessage(EN, "b", "en:b")
+                    .addMessage(PL, "c", "pl:c")
+                    .addMessage(EN, "fallback.d", "en:fallback.d")
+                    .prefixQueries("", "fallback")
+                    .setDefaultLocale(PL_PL)
+                    .build()
+        when:
+            I18nMessage first = messagePack.getTemplate(locale, I18nPath.of(path))
+            I18nMessage second = messagePack.getTemplate(locale, I18nPath.of(path))
+        then:
+            first.is(second)
+            first.resolve() == expected
+        where:
+            locale                         | path || expected
+            EN_US                          | "a"  || "en-US:a"
+            EN_US                          | "b"  || "en:b"
+            EN_US                          | "c"  || "pl:c"
+            EN_US                          | "d"  || "en:fallback.d"
+            Locale.forLanguageTag("en-XX") | "b"  || "en:b"
+    }
+
+    def "should not index missing messages"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN, "a", "en:a")
+                    .build()
+        expect:
+            messagePack.getTemplateOrNull(EN, I18nPath.of("b")) == null
+            messagePack.getMessageOrNull(EN, "b") == null
+            messagePack.getMessageOrNull(EN, "a") == "en:a"
+    }
+
+    def "should resolve messages from prefixed pack"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN, "a", "en:a")
+                    .addMessage(EN, "x.a", "en:x.a")
+                    .build()
+        when:
+            I18nMessagePack prefixed = messagePack.prefixQueries("x")
+        then:
+            prefixed.getMessage(EN, "a") == "en:x.a"
+            messagePack.getMessage(EN, "a") == "en:a"
+    }
+
+    def "should resolve messages queried with equal string paths"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN, "x.a", "en:x.a {0}")
+                    .usePathOnMissingMessage()
+                    .build()
+                    .localize(EN_US)
+            String dynamicPath = ["x", "a"].join(".")
+        expect:
+            messages.getMessage("x.a", "1") == "en:x.a 1"
+            messages.getMessage(dynamicPath, "2") == "en:x.a 2"
+            messages.getMessage(dynamicPath, 3L) == "en:x.a 3"
+            messages.getMessage("x.b") == "x.b"
+            messages.getMessageOrNull("x.b") == null
+            messages.getTemplate("x.a").is(messages.getTemplate(I18nPath.of("x.a")))
+    }
+
+    def "should validate string path queried after a cached query"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN, "a", "en:a")
+                    .build()
+        and:
+            messagePack.getMessage(EN, "a")
+        when:
+            messagePack.getMessage(EN, "a..b")
+        then:
+            thrown(IllegalArgumentException)
+    }
+}
@@ -52,4 +52,34 @@ class I18nPathSpec extends Specification {
             I18nPath.root()            | "x"   || I18nPath.of("x")
             I18nPath.root()            | ""    || I18nPath.root()
     }
-}
\ No newline at end of file
+
+    def "should share instance between equal paths"() {
+        expect:
+            I18nPath.of("a.b.c").is(I18nPath.of("a", "b", "c"))
+            I18nPath.of("a.b.c").is(I18nPath.of("a").child("b.c"))
+            I18nPath.of("a.b.c").is(I18nPath.of("a", "b").child(I18nPath.of("c")))
+            I18nPath.of("a.b.c").parentOrRoot().is(I18nPath.of("a.b"))
+            I18nPath.of("").is(I18nPath.root())
+    }
+
+    def "should skip empty segments"() {
+        expect:
+            I18nPath.of("", "a", "", "b") == I18nPath.of("a.b")
+            I18nPath.of("", "") == I18nPath.root()
+    }
+
+    def "should return path segments"() {
+        expect:
+            I18nPath.of("a.b.c").segments == ["a", "b", "c"]
+            I18nPath.of("a.b.c").lastSegment == "c"
+            I18nPath.root().segments == []
+    }
+
+    def "should report invalid character with its segment"() {
+        when:
+            I18nPath.of("a.b&c.d")
+        then:
+            IllegalArgumentException e = thrown(IllegalArgumentException)
+            e.message == "Invalid character '&' in path segment: b&c in path: a.b&c.d"
+    }
+}
@@ -0,0 +1,71 @@
+package com.coditory.quark.i18n
+
+import com.coditory.quark.i18n.base.InMemWatchableI18nLoader
+import com.coditory.quark.i18n.loader.I18nMessageBundle
+import spock.lang.Specification
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class IncrementalReloadSpec extends Specification {
+    I18nMessageBundle company = bundle([(I18nKey.of(EN_US, "company")): "ACME"])
+    I18nMessageBundle home = bundle([
+            (I18nKey.of(EN_US, "welcome")): "Welcome to \$company",
+            (I18nKey.of(EN_US, "title"))  : "Home",
+            (I18nKey.of(PL_PL, "welcome")): "Witaj w \$company"
+    ])
+    InMemWatchableI18nLoader loader = new InMemWatchableI18nLoader([company, home])
+    Reloadable18nMessagePack messages = I18nMessagePack.builder()
+            .addLoader(loader)
+            .setDefaultLocale(EN_US)
+            .buildAndWatchForChanges()
+
+    def "should recompile only changed messages and messages that reference them"() {
+        given:
+            Map<I18nKey, MessageTemplate> previous = templates()
+        when:
+            loader.change([bundle([(I18nKey.of(EN_US, "company")): "Corp"]), home])
+        then:
+            messages.getMessage(EN_US, "welcome") == "Welcome to Corp"
+            messages.getMessage(PL_PL, "welcome") == "Witaj w Corp"
+        and:
+            Map<I18nKey, MessageTemplate> current = templates()
+            !current[I18nKey.of(EN_US, "company")].is(previous[I18nKey.of(EN_US, "company")])
+            !current[I18nKey.of(EN_US, "welcome")].is(previous[I18nKey.of(EN_US, "welcome")])
+            current[I18nKey.of(EN_US, "title")].is(previous[I18nKey.of(EN_US, "title")])
+    }
+
+    def "should recompile messages that resolved reference from a fallback locale"() {
+        when:
+            loader.change([company, home, bundle([(I18nKey.of(PL_PL, "company")): "Firma"])])
+        then:
+            messages.getMessage(PL_PL, "welcome") == "Witaj w Firma"
+            messages.getMessage(EN_US, "welcome") == "Welcome to ACME"
+    }
+
+    def "should rebuild all messages when available locales change"() {
+        given:
+            Map<I18nKey, MessageTemplate> previous = templates()
+        when:
+            loader.change([company, home, bundle([(I18nKey.of(Locale.GERMAN, "title")): "Startseite"])])
+        then:
+            messages.getMessage(Locale.GERMAN, "title") == "Startseite"
+            !templates()[I18nKey.of(EN_US, "title")].is(previous[I18nKey.of(EN_US, "title")])
+    }
+
+    def "should keep previous messages when change breaks a reference"() {
+        when:
+            loader.change([home])
+        then:
+            thrown(I18nMessagesException)
+            messages.getMessage(EN_US, "welcome") == "Welcome to ACME"
+    }
+
+    private Map<I18nKey, MessageTemplate> templates() {
+        return ((ImmutableI18nMessagePack) messages.i18nMessagePack).getTemplates()
+    }
+
+    private static I18nMessageBundle bundle(Map<I18nKey, String> templates) {
+        return new I18nMessageBundle(templates)
+    }
+}
@@ -0,0 +1,144 @@
+package com.coditory.quark.i18n
+
+import com.ibm.icu.text.MessageFormat
+import com.ibm.icu.text.MessagePattern
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Instant
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class MessageProgramSpec extends Specification {
+    static final Date date = Date.from(Instant.parse("2007-12-03T10:15:30.00Z"))
+
+    void setup() {
+        I18nSystemDefaults.setupGmtAndEnUsAsDefaults()
+    }
+
+    @Unroll
+    def "should format the same way as ICU MessageFormat: #template #args"() {
+        expect:
+            compiledFormat(EN_US, template, args) == icuFormat(EN_US, template, args)
+            compiledFormat(PL_PL, template, args) == icuFormat(PL_PL, template, args)
+        where:
+            template                                                         | args
+            "Hello {0} {1}"                                                  | ["John", "Doe"]
+            "Hello {0} {1}"                                                  | ["John"]
+            "Hello {0}"                                                      | [null]
+            "It''s '{'{0}'}'"                                                | ["x"]
+            "{0}"                                                            | [1234567.891]
+            "{0}"                                                            | [date]
+            "{0}"                                                            | [true]
+            "{0, number}"                                                    | [1234567.891]
+            "{0, number, integer}"                                           | [1234567.891]
+            "{0, number, percent}"                                           | [0.25]
+            "{0, number, currency}"                                          | [12.5]
+            "{0, number, #,##0.0}"                                           | [1234567.891]
+            "{0, date}"                                                      | [date]
+            "{0, date, short}"                                               | [date]
+            "{0, date, long}"                                                | [date]
+            "{0, date, yyyy-MM-dd}"                                          | [date]
+            "{0, time}"                                                      | [date]
+            "{0, time, full}"                                                | [date]
+            "{0, spellout}"                                                  | [123]
+            "{0, ordinal}"                                                   | [3]
+            "{0, duration}"                                                  | [3723]
+            "{0, plural, =0 {none} one {# item} other {# items}}"            | [0]
+            "{0, plural, =0 {none} one {# item} other {# items}}"            | [1]
+            "{0, plural, =0 {none} one {# item} other {# items}}"            | [5]
+            "{0, plural, =0 {none} one {# item} other {# items}}"            | [1234]
+            "{0, plural, offset:1 =0 {none} one {# more} other {# more}}"    | [1]
+            "{0, plural, offset:1 =0 {none} one {# more} other {# more}}"    | [3]
+            "{0, plural, other {{0, number, integer} items}}"                | [1234]
+            "{0, selectordinal, one {#st} two {#nd} few {#rd} other {#th}}"  | [2]
+            "{0, select, male {he} female {she} other {they}}"               | ["female"]
+            "{0, select, male {he} female {she} other {they}}"               | ["x"]
+            "{0, select, a {{1, plural, one {# a} other {# as}}} other {-}}" | ["a", 2]
+    }
+
+    @Unroll
+    def "should format single long argument the same way as ICU MessageFormat: #template #value"() {
+        expect:
+            compiledLongFormat(EN_US, template, value) == icuFormat(EN_US, template, [value])
+            compiledLongFormat(PL_PL, template, value) == icuFormat(PL_PL, template, [value])
+        where:
+            template                                                        | value
+            "{0}"                                                           | 5L
+            "{0}"                                                           | 127L
+            "{0}"                                                           | 1234567L
+            "{0}"                                                           | -1L
+            "Hello {0} {1}"                                                 | 5L
+            "{0, number, integer}"                                          | 42L
+            "{0, number, #,##0.00}"                                         | 42L
+            "{0, spellout}"                                                 | 42L
+            "{0, plural, =0 {none} one {# item} other {# items}}"           | 0L
+            "{0, plural, =0 {none} one {# item} other {# items}}"           | 1L
+            "{0, plural, =0 {none} one {# item} other {# items}}"           | 22L
+            "{0, plural, =0 {none} one {# item} other {# items}}"           | 1000L
+            "{0, selectordinal, one {#st} two {#nd} few {#rd} other {#th}}" | 23L
+            "{0, select, 1 {one} other {many}}"                             | 1L
+    }
+
+    def "should fall back to ICU for long argument formatted as date"() {
+        given:
+            MessageProgram program = MessageProgram.compile(new MessagePattern("{0, date}"), EN_US)
+        expect:
+            !program.format(0L, new StringBuilder())
+    }
+
+    def "should format named arguments the same way as ICU MessageFormat"() {
+        given:
+            String template = "{name} has {count, plural, =0 {no messages} one {# message} other {# messages}} {missing}"
+            Map<String, Object> args = [name: "Alice", count: 5]
+        expect:
+            compiledFormat(EN_US, template, args) == icuFormat(EN_US, template, args)
+    }
+
+    def "should not compile choice format"() {
+        expect:
+            !MessageProgram.isCompilable(new MessagePattern("{0, choice, 0#none|1#one|1<many}"))
+    }
+
+    def "should fall back to ICU for fractional plural value"() {
+        given:
+            MessageProgram program = MessageProgram.compile(new MessagePattern("{0, plural, one {#} other {# items}}"), EN_US)
+            StringBuilder out = new StringBuilder()
+        expect:
+            !program.format([1.5] as Object[], out)
+    }
+
+    def "should fall back to ICU when named template is formatted with indexed arguments"() {
+        given:
+            MessageProgram program = MessageProgram.compile(new MessagePattern("{name}"), EN_US)
+        expect:
+            !program.format(["b"] as Object[], new StringBuilder())
+    }
+
+    private static String compiledFormat(Locale locale, String template, Object args) {
+        MessagePattern pattern = new MessagePattern(template)
+        assert MessageProgram.isCompilable(pattern)
+        MessageProgram program = MessageProgram.compile(pattern, locale)
+        StringBuilder out = new StringBuilder()
+        boolean compiled = args instanceof Map
+                ? program.format(args as Map<String, Object>, out)
+                : program.format(args as Object[], out)
+        assert compiled
+        return out.toString()
+    }
+
+    private static String compiledLongFormat(Locale locale, String template, long value) {
+        MessageProgram program = MessageProgram.compile(new MessagePattern(template), locale)
+        StringBuilder out = new StringBuilder()
+        assert program.format(value, out)
+        return out.toString()
+    }
+
+    private static String icuFormat(Locale locale, String template, Object args) {
+        MessageFormat messageFormat = new MessageFormat(template, locale)
+        return args instanceof Map
+                ? messageFormat.format(args as Map<String, Object>)
+                : messageFormat.format(args as Object[])
+    }
+}
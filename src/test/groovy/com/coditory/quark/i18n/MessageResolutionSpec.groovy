@@ -41,6 +41,19 @@ class MessageResolutionSpec extends Specification {
             result == "Witaj Jan Kowalski"
     }
 
+    def "should return pre-rendered static message"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(PL, "hello", "Witaj '{'świecie'}' it''s me")
+                    .buildLocalized(PL)
+        when:
+            String first = messages.getMessage("hello")
+            String second = messages.getMessage("hello", "unused")
+        then:
+            first == "Witaj {świecie} it's me"
+            first.is(second)
+    }
+
     @Unroll
     def "should prefix queries (#locale, #path)"() {
         given:
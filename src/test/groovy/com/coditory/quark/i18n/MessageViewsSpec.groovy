@@ -0,0 +1,84 @@
+package com.coditory.quark.i18n
+
+import spock.lang.Specification
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class MessageViewsSpec extends Specification {
+    I18nMessagePack messagePack = I18nMessagePack.builder()
+            .addMessage(EN_US, "hello", "Hello")
+            .addMessage(EN_US, "x.hello", "Hello X")
+            .addMessage(EN_US, "x.y.hello", "Hello X.Y")
+            .addMessage(PL_PL, "hello", "Cześć")
+            .setDefaultLocale(EN_US)
+            .build()
+
+    def "should reuse localized messages"() {
+        expect:
+            messagePack.localize(EN_US).is(messagePack.localize(EN_US))
+            messagePack.localize(PL_PL).is(messagePack.localize("pl-PL"))
+            !messagePack.localize(EN_US).is(messagePack.localize(PL_PL))
+        and:
+            messagePack.localize(PL_PL).getMessage("hello") == "Cześć"
+    }
+
+    def "should reuse localized messages of message pack loading locales lazily"() {
+        given:
+            I18nMessagePack lazy = I18nMessagePack.builder()
+                    .addMessage(EN_US, "hello", "Hello")
+                    .addMessage(PL_PL, "hello", "Cześć")
+                    .setDefaultLocale(EN_US)
+                    .loadLocalesLazily()
+                    .build()
+        when:
+            I18nMessages messages = lazy.localize(EN_US)
+        then:
+            messages.is(lazy.localize(EN_US))
+            !messages.is(lazy.localize(PL_PL))
+        and:
+            lazy.localize(PL_PL).is(lazy.localize(PL_PL))
+            messages.getMessage("hello") == "Hello"
+    }
+
+    def "should reuse prefixed message packs"() {
+        when:
+            I18nMessagePack prefixed = messagePack.prefixQueries("x")
+        then:
+            prefixed.is(messagePack.prefixQueries("x"))
+            prefixed.is(messagePack.withQueryPrefixes("x"))
+            prefixed.prefixQueries("y").is(messagePack.prefixQueries("x.y"))
+        and:
+            prefixed.getMessage(EN_US, "hello") == "Hello X"
+            prefixed.prefixQueries("y").getMessage(EN_US, "hello") == "Hello X.Y"
+    }
+
+    def "should return the same message pack for unchanged query prefixes"() {
+        expect:
+            messagePack.withQueryPrefixes([]).is(messagePack)
+            messagePack.prefixQueries(I18nPath.root()).is(messagePack)
+    }
+
+    def "should reuse prefixed localized messages"() {
+        given:
+            I18nMessages messages = messagePack.localize(EN_US)
+        expect:
+            messages.prefixQueries("x").is(messages.prefixQueries("x"))
+            messages.prefixQueries("x").is(messagePack.prefixQueries("x").localize(EN_US))
+            messages.prefixQueries("x").getMessage("hello") == "Hello X"
+    }
+
+    def "should not reuse views of a reloaded message pack"() {
+        given:
+            Reloadable18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "x.hello", "Hello X")
+                    .buildReloadable()
+            I18nMessages localized = messages.localize(EN_US)
+            I18nMessagePack prefixed = messages.prefixQueries("x")
+        when:
+            messages.reload()
+        then:
+            !localized.is(messages.localize(EN_US))
+            !prefixed.is(messages.prefixQueries("x"))
+    }
+}
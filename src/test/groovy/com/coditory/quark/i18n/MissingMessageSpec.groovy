@@ -83,4 +83,51 @@ class MissingMessageSpec extends Specification {
                     "pl-PL:fallback.home.xxx",
                     "pl:fallback.home.xxx").join("\n  ")
     }
+
+    def "should count lookups of missing messages"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN, "home.hello", "Hello")
+                    .usePathOnMissingMessage()
+                    .build()
+        when:
+            messages.getMessage(EN_US, "home.hello")
+            messages.getMessage(EN_US, "home.xxx")
+            messages.getMessage(EN_US, "home.xxx", 5L)
+            messages.getMessage(I18nKey.of(EN_US, "home.xxx"), [name: "John"])
+            messages.getMessageOrNull(PL, "home.yyy")
+        then:
+            I18nMissingMessageStats stats = messages.getMissingMessageStats()
+            stats.lookups() == 4
+            stats.distinctKeys() == 2
+            stats.size() == 2
+            stats.evictions() == 0
+    }
+
+    def "should pass the same checked keys to missing message handler for repeated lookups"() {
+        given:
+            List<Iterable<I18nKey>> checked = []
+            I18nMissingMessageHandler handler = Stub(I18nMissingMessageHandler) {
+                onUnresolvedMessage(_, _, _) >> { I18nKey key, Iterable<I18nKey> keys, Object[] args ->
+                    checked.add(keys)
+                    return key.path().getValue()
+                }
+            }
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .setMissingMessageHandler(handler)
+                    .prefixQueries("", "fallback")
+                    .build()
+        when:
+            messages.getMessage(EN_US, "home.xxx")
+            messages.getMessage(EN_US, "home.xxx")
+        then:
+            checked.size() == 2
+            checked[0].is(checked[1])
+            checked[0].collect { it.toShortString() } == [
+                    "en-US:home.xxx",
+                    "en:home.xxx",
+                    "en-US:fallback.home.xxx",
+                    "en:fallback.home.xxx"
+            ]
+    }
 }
@@ -0,0 +1,66 @@
+package com.coditory.quark.i18n
+
+import com.ibm.icu.text.MessageFormat
+import com.ibm.icu.util.CurrencyAmount
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.coditory.quark.i18n.Locales.DE_DE
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class MoneyArgumentSpec extends Specification {
+    @Unroll
+    def "should format money argument in message locale: #locale #money"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(locale, "default", "Price: {0}")
+                    .addMessage(locale, "currency", "Price: {0, number, currency}")
+                    .build()
+        expect:
+            messages.getMessage(locale, "default", money) == "Price: " + icuCurrencyFormat(locale, money)
+            messages.getMessage(locale, "currency", money) == "Price: " + icuCurrencyFormat(locale, money)
+        where:
+            locale | money
+            EN_US  | new Money(new BigDecimal("1234.5"), Currencies.USD)
+            EN_US  | new Money(new BigDecimal("1234.5"), Currencies.EUR)
+            EN_US  | new Money(new BigDecimal("-3"), Currencies.JPY)
+            PL_PL  | new Money(new BigDecimal("1234.5"), Currencies.PLN)
+            PL_PL  | new Money(new BigDecimal("1234.5"), Currencies.USD)
+            DE_DE  | new Money(new BigDecimal("0.99"), Currencies.EUR)
+    }
+
+    def "should format money argument with currency symbol"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "price", "Price: {0}")
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessage("price", new Money(new BigDecimal("1234.5"), Currencies.USD)) == "Price: \$1,234.50"
+            messages.getMessage("price", new Money(new BigDecimal("1234.5"), Currencies.EUR)) == "Price: €1,234.50"
+    }
+
+    def "should format money amount with number argument format"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "amount", "Amount: {0, number}")
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessage("amount", new Money(new BigDecimal("1234.5"), Currencies.USD)) == "Amount: 1,234.5"
+    }
+
+    def "should format money arguments with different currencies in one message"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "prices", "{0} or {1}")
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessage("prices", new Money(BigDecimal.ONE, Currencies.USD), new Money(BigDecimal.ONE, Currencies.GBP)) == "\$1.00 or £1.00"
+    }
+
+    private static String icuCurrencyFormat(Locale locale, Money money) {
+        com.ibm.icu.util.Currency currency = com.ibm.icu.util.Currency.fromJavaCurrency(money.currency())
+        return new MessageFormat("{0, number, currency}", locale)
+                .format([new CurrencyAmount(money.amount(), currency)] as Object[])
+    }
+}
@@ -0,0 +1,92 @@
+package com.coditory.quark.i18n
+
+import com.coditory.quark.i18n.loader.I18nLoadException
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class PrecompiledMessagePackSpec extends Specification {
+    @TempDir
+    Path tempDir
+
+    def "should load precompiled messages"() {
+        given:
+            Path file = tempDir.resolve("messages.bin")
+            I18nMessagePackCompiler.compile(I18nMessagePack.builder()
+                    .addMessage(EN_US, "hello", "Hello {0}")
+                    .addMessage(EN_US, "quoted", 'It\'\'s \\$company')
+                    .addMessage(EN_US, "company", "ACME")
+                    .addMessage(EN_US, "welcome", "Welcome to \$company")
+                    .addMessage(PL_PL, "items", "{0, plural, one {# element} few {# elementy} other {# elementów}}"), file)
+        when:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addPrecompiledMessages(file)
+                    .build()
+        then:
+            messages.getMessage(EN_US, "hello", "John") == "Hello John"
+            messages.getMessage(EN_US, "quoted") == "It's \$company"
+            messages.getMessage(EN_US, "welcome") == "Welcome to ACME"
+            messages.getMessage(PL_PL, "items", 3) == "3 elementy"
+    }
+
+    def "should override precompiled messages and resolve references to them"() {
+        given:
+            Path file = tempDir.resolve("messages.bin")
+            I18nMessagePackCompiler.compile(I18nMessagePack.builder()
+                    .addMessage(EN_US, "company", "ACME")
+                    .addMessage(EN_US, "title", "Home"), file)
+        when:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addPrecompiledMessages(file)
+                    .addMessage(EN_US, "title", "Homepage")
+                    .addMessage(EN_US, "welcome", "Welcome to \$company")
+                    .build()
+        then:
+            messages.getMessage(EN_US, "title") == "Homepage"
+            messages.getMessage(EN_US, "welcome") == "Welcome to ACME"
+    }
+
+    def "should precompile all locales of message pack configured to load locales lazily"() {
+        given:
+            Path file = tempDir.resolve("messages.bin")
+            I18nMessagePackCompiler.compile(I18nMessagePack.builder()
+                    .addMessage(EN_US, "company", "ACME")
+                    .addMessage(EN_US, "welcome", "Welcome to \$company")
+                    .addMessage(PL_PL, "welcome", "Witaj w \$company")
+                    .setDefaultLocale(EN_US)
+                    .loadLocalesLazily(), file)
+        when:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addPrecompiledMessages(file)
+                    .build()
+        then:
+            messages.getMessage(EN_US, "welcome") == "Welcome to ACME"
+            messages.getMessage(PL_PL, "welcome") == "Witaj w ACME"
+    }
+
+    def "should reject file that is not a precompiled message pack"() {
+        given:
+            Path file = tempDir.resolve("messages.yml")
+            Files.writeString(file, "hello.en: Hello")
+        when:
+            I18nMessagePack.builder()
+                    .addPrecompiledMessages(file)
+                    .build()
+        then:
+            I18nLoadException e = thrown(I18nLoadException)
+            e.message == "Expected precompiled message pack: " + file
+    }
+
+    def "should reject compiler arguments without path pattern"() {
+        when:
+            I18nMessagePackCompiler.compile([tempDir.resolve("messages.bin").toString()] as String[])
+        then:
+            IllegalArgumentException e = thrown(IllegalArgumentException)
+            e.message.startsWith("Expected output file and at least one path pattern")
+    }
+}
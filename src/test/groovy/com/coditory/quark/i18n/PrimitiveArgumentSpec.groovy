@@ -0,0 +1,115 @@
+package com.coditory.quark.i18n
+
+import com.coditory.quark.i18n.base.JavaApiCalls
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class PrimitiveArgumentSpec extends Specification {
+    @Unroll
+    def "should format count argument the same way as boxed argument: #locale #value"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "items", "You have {0, plural, =0 {no messages} one {# message} other {# messages}}")
+                    .addMessage(PL_PL, "items", "{0, plural, =0 {Nie masz wiadomości} one {Masz 1 wiadomość} few {Masz # wiadomości} other {Masz # wiadomości}}")
+                    .build()
+                    .localize(locale)
+        expect:
+            messages.getMessageForCount("items", (long) value) == messages.getMessage("items", [value] as Object[])
+            messages.getMessageForCount(I18nPath.of("items"), (long) value) == messages.getMessage("items", [value] as Object[])
+        where:
+            locale | value
+            EN_US  | 0
+            EN_US  | 1
+            EN_US  | 5
+            EN_US  | 1234567
+            PL_PL  | 1
+            PL_PL  | 3
+            PL_PL  | 22
+            PL_PL  | 1234567
+    }
+
+    def "should format char argument as a character"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "separator", "Separator: {0}")
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessage("separator", ';' as char) == "Separator: ;"
+    }
+
+    def "should apply type based transformer to count argument"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "Value: {0}")
+                    .addArgumentTransformer(Long, { ">>${it}<<" })
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessageForCount("message", 5L) == "Value: >>5<<"
+            messages.getMessageForCount("message", 5_000_000_000L) == "Value: >>5000000000<<"
+    }
+
+    def "should handle missing message with count argument"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .usePathOnMissingMessage()
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessageForCount("missing", 5L) == "missing"
+    }
+
+    def "should render not provided arguments for count argument"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "{0} of {1}")
+                    .buildLocalized(EN_US)
+        expect:
+            messages.getMessageForCount("message", 5L) == "5 of {1}"
+    }
+
+    def "should pass int argument from java as Integer"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "Value: {0}")
+                    .addArgumentTransformer(Integer, { ">>${it}<<" })
+                    .build()
+            I18nMessages messages = messagePack.localize(EN_US)
+        expect:
+            JavaApiCalls.getMessageWithInt(messages, "message", 5) == "Value: >>5<<"
+            JavaApiCalls.getMessageWithInteger(messages, "message", 5) == "Value: >>5<<"
+            JavaApiCalls.getMessageWithInt(messagePack, EN_US, "message", 5) == "Value: >>5<<"
+    }
+
+    def "should render null Integer argument from java"() {
+        given:
+            I18nMessagePack messagePack = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "Value: {0}")
+                    .build()
+            I18nMessages messages = messagePack.localize(EN_US)
+        expect:
+            JavaApiCalls.getMessageWithNullInteger(messages, "message") == "Value: null"
+            JavaApiCalls.getMessageWithNullInteger(messagePack, EN_US, "message") == "Value: null"
+    }
+
+    def "should pass int argument from java to missing message handler as Integer"() {
+        given:
+            List<Object> handledArgs = []
+            I18nMissingMessageHandler handler = Stub(I18nMissingMessageHandler) {
+                onUnresolvedMessage(_, _, _) >> { I18nKey key, Iterable<I18nKey> keys, Object[] args ->
+                    handledArgs.addAll(args)
+                    return key.path().getValue()
+                }
+            }
+            I18nMessages messages = I18nMessagePack.builder()
+                    .setMissingMessageHandler(handler)
+                    .buildLocalized(EN_US)
+        when:
+            String result = JavaApiCalls.getMessageWithInt(messages, "missing", 5)
+        then:
+            result == "missing"
+            handledArgs == [5]
+            handledArgs[0] instanceof Integer
+    }
+}
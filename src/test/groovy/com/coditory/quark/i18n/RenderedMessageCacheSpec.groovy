@@ -0,0 +1,119 @@
+package com.coditory.quark.i18n
+
+import com.coditory.quark.i18n.loader.I18nLoader
+import com.coditory.quark.i18n.loader.I18nMessageBundle
+import spock.lang.Specification
+
+import static com.coditory.quark.i18n.Locales.EN_US
+import static com.coditory.quark.i18n.Locales.PL_PL
+
+class RenderedMessageCacheSpec extends Specification {
+    def "should cache rendered messages"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "items", "{0} items")
+                    .addMessage(EN_US, "greeting", "Hello {name}")
+                    .cacheRenderedMessages(100)
+                    .build()
+        when:
+            List<String> results = (0..<3).collect {
+                [
+                        messages.getMessage(EN_US, "items", 5),
+                        messages.getMessage(EN_US, "greeting", [name: "John"])
+                ]
+            }.flatten()
+        then:
+            results == ["5 items", "Hello John"] * 3
+        and:
+            I18nCacheStats stats = messages.getRenderedMessageCacheStats()
+            stats.hits() == 4
+            stats.misses() == 2
+            stats.size() == 2
+            stats.hitRatio() == 4d / 6
+    }
+
+    def "should distinguish rendered messages by locale and arguments"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "items", "{0, number} items")
+                    .addMessage(PL_PL, "items", "{0, number} elementów")
+                    .cacheRenderedMessages(100)
+                    .build()
+        expect:
+            messages.getMessage(EN_US, "items", 1.5d) == "1.5 items"
+            messages.getMessage(EN_US, "items", 2.5d) == "2.5 items"
+            messages.getMessage(PL_PL, "items", 1.5d) == "1,5 elementów"
+            messages.getMessage(EN_US, "items", 1.5d) == "1.5 items"
+            messages.getRenderedMessageCacheStats().hits() == 1
+    }
+
+    def "should not cache messages with mutable or too many arguments"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "{0} {1} {2}")
+                    .addMessage(EN_US, "static", "Hello")
+                    .cacheRenderedMessages(100, 2)
+                    .build()
+        when:
+            messages.getMessage(EN_US, "message", new StringBuilder("a"), "b")
+            messages.getMessage(EN_US, "message", "a", "b", "c")
+            messages.getMessage(EN_US, "message", "a", null)
+            messages.getMessage(EN_US, "static")
+        then:
+            messages.getRenderedMessageCacheStats().requests() == 0
+    }
+
+    def "should cache messages with additional argument type"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "Hello {0}")
+                    .cacheRenderedMessages(100)
+                    .addRenderedMessageCacheArgumentType(BigDecimal)
+                    .build()
+        when:
+            messages.getMessage(EN_US, "message", 1.5G)
+            messages.getMessage(EN_US, "message", 1.5G)
+        then:
+            messages.getRenderedMessageCacheStats().hits() == 1
+    }
+
+    def "should share rendered message cache with prefixed message pack"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "x.message", "Hello {0}")
+                    .cacheRenderedMessages(100)
+                    .build()
+        when:
+            messages.getMessage(EN_US, "x.message", "John")
+            messages.prefixQueries("x").getMessage(EN_US, "message", "John")
+        then:
+            messages.getRenderedMessageCacheStats().hits() == 1
+    }
+
+    def "should not expose rendered message cache stats when cache is disabled"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .addMessage(EN_US, "message", "Hello {0}")
+                    .build()
+        expect:
+            messages.getRenderedMessageCacheStats() == null
+    }
+
+    def "should invalidate rendered message cache on reload"() {
+        given:
+            String template = "Hello {0}"
+            I18nLoader loader = { -> [new I18nMessageBundle([(I18nKey.of(EN_US, "message")): template])] } as I18nLoader
+            Reloadable18nMessagePack messages = I18nMessagePack.builder()
+                    .addLoader(loader)
+                    .cacheRenderedMessages(100)
+                    .buildReloadable()
+        and:
+            messages.getMessage(EN_US, "message", "John")
+        when:
+            template = "Hi {0}"
+            messages.reload()
+        then:
+            messages.getMessage(EN_US, "message", "John") == "Hi John"
+            messages.getRenderedMessageCacheStats().hits() == 0
+    }
+}
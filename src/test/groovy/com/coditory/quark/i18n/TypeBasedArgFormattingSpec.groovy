@@ -2,6 +2,8 @@ package com.coditory.quark.i18n
 
 import spock.lang.Specification
 
+import java.time.Instant
+
 import static com.coditory.quark.i18n.Locales.EN
 
 class TypeBasedArgFormattingSpec extends Specification {
@@ -30,6 +32,44 @@ class TypeBasedArgFormattingSpec extends Specification {
             result == ">>abc<< >>def<<"
     }
 
+    def "should transform argument by its supertype"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN, "msg", "{0} {1}")
+                    .addArgumentTransformer(Animal, { "animal:${it.name}" })
+                    .addArgumentTransformer(Named, { "named:${it.name()}" })
+                    .buildLocalized(EN)
+        when:
+            String result = messages.getMessage("msg", new Dog("Rex"), new Robot("R2"))
+        then:
+            result == "animal:Rex named:R2"
+    }
+
+    def "should prefer superclass transformer over interface transformer"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN, "msg", "{0}")
+                    .addArgumentTransformer(Named, { "named" })
+                    .addArgumentTransformer(Animal, { "animal" })
+                    .buildLocalized(EN)
+        when:
+            String result = messages.getMessage("msg", new Dog("Rex"))
+        then:
+            result == "animal"
+    }
+
+    def "should override default transformer"() {
+        given:
+            I18nMessages messages = I18nMessagePack.builder()
+                    .addMessage(EN, "msg", "{0}")
+                    .addArgumentTransformer(Instant, { "instant:${it.epochSecond}" })
+                    .buildLocalized(EN)
+        when:
+            String result = messages.getMessage("msg", Instant.ofEpochSecond(10))
+        then:
+            result == "instant:10"
+    }
+
     def "should format transformed argument"() {
         given:
             I18nMessages messages = I18nMessagePack.builder()
@@ -110,4 +150,40 @@ class TypeBasedArgFormattingSpec extends Specification {
             return "Bar($value)"
         }
     }
+
+    interface Named {
+        String name()
+    }
+
+    static class Animal {
+        final String name
+
+        Animal(String name) {
+            this.name = name
+        }
+    }
+
+    static class Dog extends Animal implements Named {
+        Dog(String name) {
+            super(name)
+        }
+
+        @Override
+        String name() {
+            return name
+        }
+    }
+
+    static class Robot implements Named {
+        final String id
+
+        Robot(String id) {
+            this.id = id
+        }
+
+        @Override
+        String name() {
+            return id
+        }
+    }
 }
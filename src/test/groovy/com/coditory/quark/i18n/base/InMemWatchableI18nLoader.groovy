@@ -0,0 +1,36 @@
+package com.coditory.quark.i18n.base
+
+import com.coditory.quark.i18n.loader.I18nMessageBundle
+import com.coditory.quark.i18n.loader.WatchableI18nLoader
+
+class InMemWatchableI18nLoader implements WatchableI18nLoader {
+    private final List<I18nLoaderChangeListener> listeners = []
+    private List<I18nMessageBundle> bundles
+
+    InMemWatchableI18nLoader(List<I18nMessageBundle> bundles) {
+        this.bundles = bundles
+    }
+
+    @Override
+    List<I18nMessageBundle> load() {
+        return bundles
+    }
+
+    @Override
+    void addChangeListener(I18nLoaderChangeListener listener) {
+        listeners.add(listener)
+    }
+
+    @Override
+    void startWatching() {
+    }
+
+    @Override
+    void stopWatching() {
+    }
+
+    void change(List<I18nMessageBundle> bundles) {
+        this.bundles = bundles
+        listeners.each { it.onChange(bundles) }
+    }
+}
@@ -2,6 +2,7 @@ package com.coditory.quark.i18n.formats
 
 import com.coditory.quark.i18n.I18nMessagePack
 import com.coditory.quark.i18n.I18nMessagePackFactory
+import com.coditory.quark.i18n.I18nMessages
 import com.coditory.quark.i18n.I18nSystemDefaults
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -9,9 +10,14 @@ import spock.lang.Unroll
 import java.time.Instant
 import java.time.LocalDate
 import java.time.LocalDateTime
+import java.time.OffsetDateTime
 import java.time.ZoneId
 import java.time.ZoneOffset
 import java.time.ZonedDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 
 import static com.coditory.quark.i18n.Locales.EN_US
 import static com.coditory.quark.i18n.Locales.PL_PL
@@ -23,6 +29,7 @@ class IcuDateFormatSpec extends Specification {
     static final ZonedDateTime zonedDateTime = instant.atZone(ZoneId.of("GMT"))
     static final LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC)
     static final LocalDate localDate = LocalDate.ofInstant(instant, ZoneOffset.UTC)
+    static final ZoneId warsaw = ZoneId.of("Europe/Warsaw")
 
     void setup() {
         I18nSystemDefaults.setupGmtAndEnUsAsDefaults()
@@ -75,6 +82,68 @@ class IcuDateFormatSpec extends Specification {
             localDate     | "12/3/07, 12:00 AM"
     }
 
+    @Unroll
+    def "should format zoned date objects in their own zone: #value"() {
+        expect:
+            i18nFormat(EN_US, "{0, time, short}", value) == expected
+        where:
+            value                                             | expected
+            instant.atZone(warsaw)                            | "11:15 AM"
+            instant.atOffset(ZoneOffset.ofHours(-5))          | "5:15 AM"
+            OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) | "10:15 AM"
+    }
+
+    @Unroll
+    def "should format date objects without zone in configured default zone: #value"() {
+        given:
+            I18nMessagePack messages = I18nMessagePack.builder()
+                    .setDefaultZoneId(warsaw)
+                    .build()
+        expect:
+            messages.format(EN_US, "{0, time, short}", value) == expected
+        where:
+            value         | expected
+            instant       | "11:15 AM"
+            date          | "10:15 AM"
+            zonedDateTime | "10:15 AM"
+            localDateTime | "10:15 AM"
+            localDate     | "12:00 AM"
+    }
+
+    def "should format date objects without zone in zone configured on localized messages"() {
+        given:
+            I18nMessages localized = messages.localize(EN_US).withZoneId(warsaw)
+        expect:
+            localized.format("{0, time, short}", instant) == "11:15 AM"
+            localized.format("{0, time, short}", zonedDateTime) == "10:15 AM"
+            localized.prefixQueries("x").getZoneId() == warsaw
+    }
+
+    def "should format java.time values in messages formatted by ICU"() {
+        expect:
+            i18nFormat(EN_US, "{0, date, short} {1, choice, 0#none|1#one}", instant, 1) == "12/3/07 one"
+            i18nFormat(EN_US, "{0, date, short} {1, choice, 0#none|1#one}", localDate, 0) == "12/3/07 none"
+    }
+
+    def "should format java.time values from multiple threads"() {
+        given:
+            I18nMessages localized = I18nMessagePack.builder()
+                    .addMessage(EN_US, "date", "{0, date, long} {0, time, long}")
+                    .setDefaultZoneId(warsaw)
+                    .buildLocalized(EN_US)
+            List<Instant> instants = (0..<100).collect { instant.plusSeconds(it * 90_061L) }
+            List<String> expected = instants.collect { localized.getMessage("date", it) }
+            ExecutorService executor = Executors.newFixedThreadPool(8)
+        when:
+            List<Future<List<String>>> results = (0..<8).collect {
+                executor.submit({ instants.collect { localized.getMessage("date", it) } } as Callable<List<String>>)
+            }
+        then:
+            results.every { it.get() == expected }
+        cleanup:
+            executor.shutdown()
+    }
+
     private String i18nFormat(Locale locale, String template, Object... args) {
         return messages.format(locale, template, args)
     }
@@ -0,0 +1,58 @@
+package com.coditory.quark.i18n.loader
+
+import com.coditory.quark.i18n.loader.FileWatcher.FileChangedEvent
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.CREATE
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.DELETE
+import static com.coditory.quark.i18n.loader.FileWatcher.FileChangeType.MODIFY
+
+class FileChangeBatcherSpec extends Specification {
+    List<List<FileChangedEvent>> batches = new CopyOnWriteArrayList<>()
+    FileChangeBatcher batcher = new FileChangeBatcher(Duration.ofMillis(50), { batches.add(it) })
+
+    void cleanup() {
+        batcher.close()
+    }
+
+    def "should pass burst of changes in a single batch collapsed per file"() {
+        when:
+            (0..<100).each { batcher.onFileChange(event(MODIFY, "file-${it % 10}.yml")) }
+            batcher.onFileChange(event(CREATE, "created.yml"))
+            batcher.onFileChange(event(MODIFY, "created.yml"))
+            batcher.onFileChange(event(DELETE, "file-0.yml"))
+        then:
+            new PollingConditions(timeout: 2).eventually {
+                assert batches.size() == 1
+            }
+            List<FileChangedEvent> batch = batches[0]
+            batch.size() == 11
+            batch[0] == event(DELETE, "file-0.yml")
+            batch[1] == event(MODIFY, "file-1.yml")
+            batch[10] == event(CREATE, "created.yml")
+    }
+
+    def "should handle batch off the watcher thread"() {
+        given:
+            Thread handlingThread = null
+            FileChangeBatcher batcher = new FileChangeBatcher(Duration.ofMillis(10), { handlingThread = Thread.currentThread() })
+        when:
+            batcher.onFileChange(event(MODIFY, "file.yml"))
+        then:
+            new PollingConditions(timeout: 2).eventually {
+                assert handlingThread != null
+            }
+            handlingThread != Thread.currentThread()
+        cleanup:
+            batcher.close()
+    }
+
+    private static FileChangedEvent event(FileWatcher.FileChangeType type, String path) {
+        return new FileChangedEvent(type, Path.of(path))
+    }
+}
@@ -43,4 +43,42 @@ class Json18nParserSpec extends Specification {
                     (I18nKey.of(EN, I18nPath.of("user.name"))): "User Name"
             ]
     }
+
+    def "should keep JSON numbers as written"() {
+        when:
+            Map<I18nKey, String> parsed = I18nParsers.parseJson('{"count": 5, "ratio": 1.50, "flag": true}', Locales.EN)
+        then:
+            parsed == [
+                    (I18nKey.of(EN, I18nPath.of("count"))): "5",
+                    (I18nKey.of(EN, I18nPath.of("ratio"))): "1.50",
+                    (I18nKey.of(EN, I18nPath.of("flag"))) : "true"
+            ]
+    }
+
+    def "should stream JSON i18n messages to a sink in file order"() {
+        given:
+            List<String> entries = []
+        when:
+            new JsonI18nParser().parse(new StringReader('{"b": {"en": "B", "pl": "b"}, "a": {"en": "A"}}'), null) { key, value ->
+                entries.add("${key.locale()}:${key.path()}=${value}".toString())
+            }
+        then:
+            entries == ["en:b=B", "pl:b=b", "en:a=A"]
+    }
+
+    def "should fail to parse JSON collection"() {
+        when:
+            I18nParsers.parseJson('{"title": {"en": ["Homepage"]}}')
+        then:
+            I18nParseException e = thrown(I18nParseException)
+            e.message == "Unexpected collection on path: title.en"
+    }
+
+    def "should fail to parse JSON with duplicated keys"() {
+        when:
+            I18nParsers.parseJson('{"title": {"en": "Homepage", "en": "Home"}}')
+        then:
+            I18nParseException e = thrown(I18nParseException)
+            e.message == "Duplicate key on path: title.en"
+    }
 }
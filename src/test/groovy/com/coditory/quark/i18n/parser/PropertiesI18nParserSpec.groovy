@@ -37,4 +37,19 @@ class PropertiesI18nParserSpec extends Specification {
                     (I18nKey.of(EN, I18nPath.of("user.name"))): "User Name"
             ]
     }
+
+    def "should parse non latin characters in properties i18n messages"() {
+        when:
+            Map<I18nKey, String> parsed = I18nParsers.parseProperties("title.pl=Strona główna")
+        then:
+            parsed == [(I18nKey.of(PL, I18nPath.of("title"))): "Strona główna"]
+    }
+
+    def "should parse properties i18n messages from reader"() {
+        when:
+            Map<I18nKey, String> parsed = new PropertiesI18nParser()
+                    .parse(new StringReader("title=Strona główna"), PL)
+        then:
+            parsed == [(I18nKey.of(PL, I18nPath.of("title"))): "Strona główna"]
+    }
 }
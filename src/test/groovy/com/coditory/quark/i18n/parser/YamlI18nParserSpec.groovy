@@ -39,4 +39,53 @@ class YamlI18nParserSpec extends Specification {
                     (I18nKey.of(EN, I18nPath.of("user.name"))): "User Name"
             ]
     }
+
+    def "should parse YAML i18n messages with aliases"() {
+        when:
+            Map<I18nKey, String> parsed = I18nParsers.parseYaml("""
+            base: &base
+              title: Homepage
+              name: &name Name
+            page: *base
+            user:
+              name: *name
+            """.stripIndent().trim(), Locales.EN)
+        then:
+            parsed == [
+                    (I18nKey.of(EN, I18nPath.of("base.title"))): "Homepage",
+                    (I18nKey.of(EN, I18nPath.of("base.name"))) : "Name",
+                    (I18nKey.of(EN, I18nPath.of("page.title"))): "Homepage",
+                    (I18nKey.of(EN, I18nPath.of("page.name"))) : "Name",
+                    (I18nKey.of(EN, I18nPath.of("user.name"))) : "Name"
+            ]
+    }
+
+    def "should keep YAML scalars as written"() {
+        when:
+            Map<I18nKey, String> parsed = I18nParsers.parseYaml("""
+            count: 5
+            ratio: 1.50
+            quoted: "null"
+            """.stripIndent().trim(), Locales.EN)
+        then:
+            parsed == [
+                    (I18nKey.of(EN, I18nPath.of("count"))) : "5",
+                    (I18nKey.of(EN, I18nPath.of("ratio"))) : "1.50",
+                    (I18nKey.of(EN, I18nPath.of("quoted"))): "null"
+            ]
+    }
+
+    @Unroll
+    def "should fail to parse YAML with #description"() {
+        when:
+            I18nParsers.parseYaml(yaml, Locales.EN)
+        then:
+            I18nParseException e = thrown(I18nParseException)
+            e.message == message
+        where:
+            description  | yaml                        || message
+            "collection" | "title:\n  - Homepage"     || "Unexpected collection on path: title"
+            "null value" | "title: ~"                  || "Unexpected null value on path: title"
+            "duplicates" | "title:\n  en: A\n  en: B" || "Duplicate key on path: title.en"
+    }
 }
@@ -0,0 +1,35 @@
+package com.coditory.quark.i18n.base;
+
+import com.coditory.quark.i18n.I18nMessagePack;
+import com.coditory.quark.i18n.I18nMessages;
+
+import java.util.Locale;
+
+// Calls the API from Java, so overloads are resolved by Java rules and not by Groovy dispatch
+public final class JavaApiCalls {
+    private JavaApiCalls() {
+        throw new UnsupportedOperationException("Do not instantiate utility class");
+    }
+
+    public static String getMessageWithInt(I18nMessages messages, String key, int arg0) {
+        return messages.getMessage(key, arg0);
+    }
+
+    public static String getMessageWithInteger(I18nMessages messages, String key, Integer arg0) {
+        return messages.getMessage(key, arg0);
+    }
+
+    public static String getMessageWithNullInteger(I18nMessages messages, String key) {
+        Integer arg0 = null;
+        return messages.getMessage(key, arg0);
+    }
+
+    public static String getMessageWithInt(I18nMessagePack messagePack, Locale locale, String key, int arg0) {
+        return messagePack.getMessage(locale, key, arg0);
+    }
+
+    public static String getMessageWithNullInteger(I18nMessagePack messagePack, Locale locale, String key) {
+        Integer arg0 = null;
+        return messagePack.getMessage(locale, key, arg0);
+    }
+}